@@ -26,6 +26,7 @@
 
 import net.minecraft.block.Block;
 import org.spongepowered.api.block.tileentity.TileEntity;
+import org.spongepowered.api.command.CommandMapping;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.scheduler.Task;
@@ -128,6 +129,10 @@ public static Timing getCancelTasksTimer(PluginContainer plugin) {
         return SpongeTimingsFactory.ofSafe(plugin, "Cancel Tasks");
     }
 
+    public static Timing getCommandTiming(PluginContainer plugin, CommandMapping mapping) {
+        return SpongeTimingsFactory.ofSafe(plugin, "Command: " + mapping.getPrimaryAlias());
+    }
+
     public static void stopServer() {
         TimingsManager.stopServer();
     }
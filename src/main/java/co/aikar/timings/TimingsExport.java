@@ -29,6 +29,7 @@
 import co.aikar.util.JSONUtil;
 import co.aikar.util.JSONUtil.JsonObjectBuilder;
 import com.google.common.base.Joiner;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.Sets;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -43,9 +44,14 @@
 import org.spongepowered.api.entity.EntityType;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.action.TextActions;
+import org.spongepowered.api.text.chat.ChatType;
 import org.spongepowered.api.text.format.TextColors;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.data.ImmutableDataCachingUtil;
 import org.spongepowered.common.entity.SpongeEntityType;
+import org.spongepowered.common.scheduler.SpongeScheduler;
+import org.spongepowered.common.service.permission.SpongePermissionService;
+import org.spongepowered.common.text.chat.ChatPacketCache;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -58,6 +64,7 @@
 import java.net.URL;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.zip.GZIPOutputStream;
 
 class TimingsExport extends Thread {
@@ -176,6 +183,40 @@ static void reportTimings(CommandSource sender) {
         builder.add("config", JSONUtil.objectBuilder()
                 .add("sponge", serializeConfigNode(SpongeImpl.getGlobalConfig().getRootNode())));
 
+        // Information on the immutable data caches
+
+        builder.add("datacache", JSONUtil.objectBuilder()
+                .add("manipulators", serializeCacheStats(ImmutableDataCachingUtil.getManipulatorCacheStats()))
+                .add("values", serializeCacheStats(ImmutableDataCachingUtil.getValueCacheStats())));
+
+        // Information on asynchronous tasks per plugin
+
+        builder.add("asynctasks", JSONUtil.mapArrayToObject(SpongeScheduler.getInstance().getAsyncTaskExecutor().getPluginQueues(), (queue) -> {
+            return JSONUtil.singleObjectPair(queue.getPlugin().getId(), JSONUtil.objectBuilder()
+                    .add("queued", queue.getQueueDepth())
+                    .add("submitted", queue.getSubmittedCount())
+                    .add("completed", queue.getCompletedCount())
+                    .add("rejected", queue.getRejectedCount())
+                    .add("waittime", queue.getTotalWaitTime(TimeUnit.MILLISECONDS))
+                    .add("maxwaittime", queue.getMaxWaitTime(TimeUnit.MILLISECONDS))
+                    .add("runtime", queue.getTotalRunTime(TimeUnit.MILLISECONDS))
+                    .build());
+        }));
+
+        builder.add("deferredsynctasks", SpongeScheduler.getInstance().getSyncScheduler().getDeferralCounts());
+
+        builder.add("permissioncache", JSONUtil.objectBuilder()
+                .add("hits", SpongePermissionService.getPermissionCacheHits())
+                .add("misses", SpongePermissionService.getPermissionCacheMisses()));
+
+        // Chat packets shared between the receivers of a message
+        builder.add("chatpackets", JSONUtil.mapArrayToObject(SpongeImpl.getRegistry().getAllOf(ChatType.class), (type) -> {
+            return JSONUtil.singleObjectPair(type.getId(), JSONUtil.objectBuilder()
+                    .add("sent", ChatPacketCache.getSentCount(type))
+                    .add("created", ChatPacketCache.getCreatedCount(type))
+                    .build());
+        }));
+
         new TimingsExport(sender, builder.build(), history).start();
     }
 
@@ -214,6 +255,13 @@ static long getCost() {
         return timingsCost;
     }
 
+    private static JsonObjectBuilder serializeCacheStats(CacheStats stats) {
+        return JSONUtil.objectBuilder()
+                .add("hits", stats.hitCount())
+                .add("misses", stats.missCount())
+                .add("evictions", stats.evictionCount());
+    }
+
     private static JsonElement serializeConfigNode(ConfigurationNode node) {
         if (node.hasMapChildren()) {
             JsonObject object = new JsonObject();
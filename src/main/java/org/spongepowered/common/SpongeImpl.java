@@ -128,6 +128,10 @@ public static boolean postEvent(Event event) {
         return getGame().getEventManager().post(event);
     }
 
+    public static boolean hasListeners(Class<? extends Event> eventClass) {
+        return ((SpongeEventManager) getGame().getEventManager()).hasListeners(eventClass);
+    }
+
     public static Logger getLogger() {
         return logger;
     }
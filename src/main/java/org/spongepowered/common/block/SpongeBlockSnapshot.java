@@ -31,6 +31,7 @@
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
@@ -43,6 +44,7 @@
 import org.spongepowered.api.data.Property;
 import org.spongepowered.api.data.Queries;
 import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.merge.MergeFunction;
 import org.spongepowered.api.data.value.BaseValue;
@@ -55,6 +57,7 @@
 import org.spongepowered.common.data.util.DataUtil;
 import org.spongepowered.common.event.CauseTracker;
 import org.spongepowered.common.interfaces.block.IMixinBlock;
+import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
 import org.spongepowered.common.interfaces.world.IMixinWorld;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.CaptureType;
@@ -75,9 +78,11 @@ public class SpongeBlockSnapshot implements BlockSnapshot {
     private final BlockState extendedState;
     private final UUID worldUniqueId;
     private final Vector3i pos;
-    private final ImmutableList<ImmutableDataManipulator<?, ?>> extraData;
-    private final ImmutableMap<Key<?>, ImmutableValue<?>> keyValueMap;
-    private final ImmutableSet<ImmutableValue<?>> valueSet;
+    // Tile entity data, derived from the compound on first use if the snapshot was captured lazily
+    private ImmutableList<ImmutableDataManipulator<?, ?>> extraData;
+    private ImmutableMap<Key<?>, ImmutableValue<?>> keyValueMap;
+    private ImmutableSet<ImmutableValue<?>> valueSet;
+    private volatile boolean tileDataPending;
     private final ImmutableList<ImmutableDataManipulator<?, ?>> blockData;
     private final ImmutableMap<Key<?>, ImmutableValue<?>> blockKeyValueMap;
     private final ImmutableSet<ImmutableValue<?>> blockValueSet;
@@ -94,13 +99,35 @@ public SpongeBlockSnapshot(SpongeBlockSnapshotBuilder builder, int flag) {
         this.updateFlag = flag;
     }
 
+    /**
+     * Internal use for captures, where most snapshots are never inspected.
+     * The tile entity data manipulators are only created from the captured
+     * compound once they are requested. The compound itself is the one of
+     * the builder, which must be reset before it is used again.
+     *
+     * <p>The manipulators are read from a tile entity which isn't added to
+     * any world, so they may be created on any thread.</p>
+     *
+     * @param builder The builder with the tile entity compound, if any
+     * @param flag The update flag
+     * @param deferTileData Whether to defer creating the tile entity data
+     */
+    public SpongeBlockSnapshot(SpongeBlockSnapshotBuilder builder, int flag, boolean deferTileData) {
+        this(builder, flag, deferTileData ? builder.compound : null);
+    }
+
     public SpongeBlockSnapshot(SpongeBlockSnapshotBuilder builder) {
+        this(builder, 0, null);
+    }
+
+    private SpongeBlockSnapshot(SpongeBlockSnapshotBuilder builder, int flag, @Nullable NBTTagCompound deferredCompound) {
         this.blockState = checkNotNull(builder.blockState, "The block state was null!");
         this.extendedState = builder.extendedState;
         this.worldUniqueId = checkNotNull(builder.worldUuid);
         this.creatorUniqueId = builder.creatorUuid;
         this.notifierUniqueId = builder.notifierUuid;
         this.pos = checkNotNull(builder.coords);
+        this.updateFlag = flag;
         final ImmutableMap.Builder<Key<?>, ImmutableValue<?>> mapBuilder = ImmutableMap.builder();
         for (ImmutableValue<?> value : this.blockState.getValues()) {
             mapBuilder.put(value.getKey(), value);
@@ -109,9 +136,19 @@ public SpongeBlockSnapshot(SpongeBlockSnapshotBuilder builder) {
         this.blockValueSet = ImmutableSet.copyOf(this.blockKeyValueMap.values());
         this.blockData = ImmutableList.copyOf(this.blockState.getContainers());
 
+        if (deferredCompound != null) {
+            this.compound = deferredCompound;
+            this.tileDataPending = true;
+        } else {
+            setTileData(builder.manipulators == null ? ImmutableList.<ImmutableDataManipulator<?, ?>>of() : builder.manipulators);
+            this.compound = builder.compound == null ? null : (NBTTagCompound) builder.compound.copy();
+        }
+    }
+
+    private void setTileData(List<ImmutableDataManipulator<?, ?>> manipulators) {
         // This avoids cross contamination of block state based values versus tile entity values.
         final ImmutableMap.Builder<Key<?>, ImmutableValue<?>> tileBuilder = ImmutableMap.builder();
-        this.extraData = builder.manipulators == null ? ImmutableList.<ImmutableDataManipulator<?, ?>>of() : ImmutableList.copyOf(builder.manipulators);
+        this.extraData = ImmutableList.copyOf(manipulators);
         for (ImmutableDataManipulator<?, ?> manipulator : this.extraData) {
             for (ImmutableValue<?> value : manipulator.getValues()) {
                 tileBuilder.put(value.getKey(), value);
@@ -119,8 +156,31 @@ public SpongeBlockSnapshot(SpongeBlockSnapshotBuilder builder) {
         }
         this.keyValueMap = tileBuilder.build();
         this.valueSet = ImmutableSet.copyOf(this.keyValueMap.values());
-        this.compound = builder.compound == null ? null : (NBTTagCompound) builder.compound.copy();
+    }
 
+    private void loadTileData() {
+        if (!this.tileDataPending) {
+            return;
+        }
+        synchronized (this) {
+            if (!this.tileDataPending) {
+                return;
+            }
+            // The data is read from a detached copy of the tile entity, so changes made to the
+            // tile entity in the world since the capture are never seen by the snapshot. It isn't
+            // added to the world either, the block at the position may have changed since, so the
+            // captured block state is given to it instead.
+            final List<ImmutableDataManipulator<?, ?>> manipulators = Lists.newArrayList();
+            final TileEntity tileEntity = TileEntity.createAndLoadEntity((NBTTagCompound) this.compound.copy());
+            if (tileEntity != null) {
+                ((IMixinTileEntity) tileEntity).setBlockState((IBlockState) this.blockState);
+                for (DataManipulator<?, ?> manipulator : ((org.spongepowered.api.block.tileentity.TileEntity) tileEntity).getContainers()) {
+                    manipulators.add(manipulator.asImmutable());
+                }
+            }
+            setTileData(manipulators);
+            this.tileDataPending = false;
+        }
     }
 
     @Override
@@ -214,6 +274,7 @@ public Optional<Location<World>> getLocation() {
 
     @Override
     public List<ImmutableDataManipulator<?, ?>> getManipulators() {
+        loadTileData();
         return ImmutableList.<ImmutableDataManipulator<?, ?>>builder().addAll(this.blockData).addAll(this.extraData).build();
     }
 
@@ -224,6 +285,7 @@ public int getContentVersion() {
 
     @Override
     public DataContainer toContainer() {
+        loadTileData();
         final DataContainer container = new MemoryDataContainer()
             .set(Queries.CONTENT_VERSION, getContentVersion())
             .set(Queries.WORLD_ID, this.worldUniqueId.toString())
@@ -249,6 +311,7 @@ public DataContainer toContainer() {
 
     @Override
     public <T extends ImmutableDataManipulator<?, ?>> Optional<T> get(Class<T> containerClass) {
+        loadTileData();
         Optional<T> optional = this.blockState.get(containerClass);
         if (optional.isPresent()) {
             return optional;
@@ -357,6 +420,7 @@ public BlockSnapshot merge(BlockSnapshot that, MergeFunction function) {
 
     @Override
     public <E> Optional<E> get(Key<? extends BaseValue<E>> key) {
+        loadTileData();
         if (this.keyValueMap.containsKey(key)) {
             return Optional.of((E) this.keyValueMap.get(key).get());
         } else if (this.blockKeyValueMap.containsKey(key)) {
@@ -367,6 +431,7 @@ public <E> Optional<E> get(Key<? extends BaseValue<E>> key) {
 
     @Override
     public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
+        loadTileData();
         if (this.keyValueMap.containsKey(key)) {
             return Optional.of((V) this.keyValueMap.get(key).asMutable());
         } else if (this.blockKeyValueMap.containsKey(key)) {
@@ -377,6 +442,7 @@ public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
 
     @Override
     public boolean supports(Key<?> key) {
+        loadTileData();
         checkNotNull(key, "Key");
         return this.keyValueMap.containsKey(key) || this.blockKeyValueMap.containsKey(key);
     }
@@ -388,11 +454,13 @@ public BlockSnapshot copy() {
 
     @Override
     public Set<Key<?>> getKeys() {
+        loadTileData();
         return ImmutableSet.<Key<?>>builder().addAll(this.keyValueMap.keySet()).addAll(this.blockKeyValueMap.keySet()).build();
     }
 
     @Override
     public Set<ImmutableValue<?>> getValues() {
+        loadTileData();
         return ImmutableSet.<ImmutableValue<?>>builder().addAll(this.valueSet).addAll(this.blockValueSet).build();
     }
 
@@ -402,6 +470,7 @@ public Optional<NBTTagCompound> getCompound() {
 
     @SuppressWarnings("rawtypes")
     public SpongeBlockSnapshotBuilder createBuilder() {
+        loadTileData();
         final SpongeBlockSnapshotBuilder builder = new SpongeBlockSnapshotBuilder();
         builder.blockState(this.blockState)
             .extendedState(this.extendedState)
@@ -443,6 +512,7 @@ public String toString() {
 
     @Override
     public boolean equals(Object o) {
+        loadTileData();
         if (this == o) {
             return true;
         }
@@ -450,6 +520,7 @@ public boolean equals(Object o) {
             return false;
         }
         SpongeBlockSnapshot that = (SpongeBlockSnapshot) o;
+        that.loadTileData();
         return this.updateFlag == that.updateFlag &&
                Objects.equal(this.extendedState, that.extendedState) &&
                Objects.equal(this.worldUniqueId, that.worldUniqueId) &&
@@ -461,6 +532,7 @@ public boolean equals(Object o) {
 
     @Override
     public int hashCode() {
+        loadTileData();
         return Objects
             .hashCode(this.extendedState,
                 this.worldUniqueId,
@@ -0,0 +1,229 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.command;
+
+import static org.spongepowered.api.command.CommandMessageFormatting.error;
+import static org.spongepowered.api.util.SpongeApiTranslationHelper.t;
+
+import com.google.common.collect.ImmutableList;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.network.play.server.S3APacketTabComplete;
+import org.spongepowered.api.command.CommandCallable;
+import org.spongepowered.api.command.CommandException;
+import org.spongepowered.api.command.CommandMapping;
+import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.event.command.TabCompleteEvent;
+import org.spongepowered.api.scheduler.SpongeExecutorService;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.SpongeConfig;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * Completes command arguments on a worker thread for the commands listed in
+ * the {@link SpongeConfig#COMMANDS_ASYNC_TAB_COMPLETE_COMMANDS} setting, as
+ * the API offers no way for a command to declare its suggestions safe to
+ * compute off the main thread. Each player has a limited number of
+ * completions in flight, requests beyond that wait and are replaced by newer
+ * ones, and results of superseded requests are never sent.
+ */
+public final class AsyncTabCompleter {
+
+    private static final Map<UUID, PlayerCompletions> completions = new ConcurrentHashMap<>();
+    @Nullable private static SpongeExecutorService executor;
+
+    private AsyncTabCompleter() {
+    }
+
+    /**
+     * Attempts to complete the given chat input asynchronously. Must be
+     * called from the main thread.
+     *
+     * @param player The player requesting completions
+     * @param input The raw tab complete input
+     * @return True if the request was taken over and the caller should not
+     *     answer it
+     */
+    public static boolean complete(EntityPlayerMP player, String input) {
+        final SpongeConfig.CommandsCategory config = SpongeImpl.getGlobalConfig().getConfig().getCommands();
+        if (!config.isAsyncTabComplete() || !input.startsWith("/")) {
+            return false;
+        }
+        final String commandLine = input.substring(1);
+        final int space = commandLine.indexOf(' ');
+        // Alias completion is served from the command manager's alias index
+        if (space < 0) {
+            return false;
+        }
+        final Player source = (Player) player;
+        final Optional<? extends CommandMapping> mapping = SpongeImpl.getGame().getCommandManager().get(commandLine.substring(0, space), source);
+        if (!mapping.isPresent() || !isAsyncSafe(mapping.get(), config.getAsyncTabCompleteCommands())) {
+            return false;
+        }
+        final CommandCallable callable = mapping.get().getCallable();
+        if (!callable.testPermission(source)) {
+            return false;
+        }
+        final Request request = new Request(player, callable, commandLine, commandLine.substring(space + 1));
+        final int maxInFlight = config.getAsyncTabCompleteMaxInFlight();
+        // Submitted within compute so that an idle entry can't be removed in between
+        completions.compute(player.getUniqueID(), (uniqueId, playerCompletions) -> {
+            if (playerCompletions == null) {
+                playerCompletions = new PlayerCompletions(uniqueId);
+            }
+            playerCompletions.submit(request, maxInFlight);
+            return playerCompletions;
+        });
+        return true;
+    }
+
+    private static boolean isAsyncSafe(CommandMapping mapping, List<String> asyncSafeCommands) {
+        for (String alias : mapping.getAllAliases()) {
+            for (String asyncSafe : asyncSafeCommands) {
+                if (alias.equalsIgnoreCase(asyncSafe)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static synchronized SpongeExecutorService getExecutor() {
+        if (executor == null) {
+            executor = SpongeImpl.getGame().getScheduler().createAsyncExecutor(SpongeImpl.getPlugin());
+        }
+        return executor;
+    }
+
+    private static void send(EntityPlayerMP player, List<String> suggestions) {
+        player.playerNetServerHandler.sendPacket(new S3APacketTabComplete(suggestions.toArray(new String[suggestions.size()])));
+    }
+
+    private static final class Request {
+
+        final EntityPlayerMP player;
+        final CommandCallable callable;
+        final String commandLine;
+        final String arguments;
+        long id;
+
+        Request(EntityPlayerMP player, CommandCallable callable, String commandLine, String arguments) {
+            this.player = player;
+            this.callable = callable;
+            this.commandLine = commandLine;
+            this.arguments = arguments;
+        }
+    }
+
+    private static final class PlayerCompletions {
+
+        private final UUID uniqueId;
+        private int inFlight;
+        private long latest;
+        @Nullable private Request waiting;
+
+        PlayerCompletions(UUID uniqueId) {
+            this.uniqueId = uniqueId;
+        }
+
+        synchronized void submit(Request request, int maxInFlight) {
+            request.id = ++this.latest;
+            if (this.inFlight >= maxInFlight) {
+                // The client only cares about its newest input
+                this.waiting = request;
+                return;
+            }
+            this.inFlight++;
+            getExecutor().execute(() -> run(request));
+        }
+
+        synchronized boolean isSuperseded(Request request) {
+            return request.id != this.latest;
+        }
+
+        synchronized boolean isIdle() {
+            return this.inFlight == 0 && this.waiting == null;
+        }
+
+        void finish() {
+            synchronized (this) {
+                this.inFlight--;
+                if (this.waiting != null) {
+                    final Request next = this.waiting;
+                    this.waiting = null;
+                    this.inFlight++;
+                    getExecutor().execute(() -> run(next));
+                    return;
+                }
+                if (this.inFlight > 0) {
+                    return;
+                }
+            }
+            // Outside of the monitor, compute locks the map before this object
+            completions.computeIfPresent(this.uniqueId, (uniqueId, playerCompletions) ->
+                    playerCompletions == this && playerCompletions.isIdle() ? null : playerCompletions);
+        }
+
+        private void run(Request request) {
+            try {
+                if (isSuperseded(request)) {
+                    return;
+                }
+                final Player source = (Player) request.player;
+                List<String> suggestions;
+                try {
+                    suggestions = request.callable.getSuggestions(source, request.arguments);
+                } catch (CommandException e) {
+                    source.sendMessage(error(t("Error getting suggestions: %s", e.getText())));
+                    suggestions = ImmutableList.of();
+                } catch (Exception e) {
+                    SpongeImpl.getLogger().error("Error getting suggestions for '{}'", request.commandLine, e);
+                    suggestions = ImmutableList.of();
+                }
+                if (isSuperseded(request)) {
+                    return;
+                }
+                if (SpongeImpl.hasListeners(TabCompleteEvent.Command.class)) {
+                    final List<String> result = suggestions;
+                    SpongeImpl.getGame().getScheduler().createTaskBuilder()
+                            .execute(() -> send(request.player, ((SpongeCommandManager) SpongeImpl.getGame().getCommandManager())
+                                    .postTabCompleteEvent(source, request.commandLine, result)))
+                            .submit(SpongeImpl.getPlugin());
+                } else {
+                    send(request.player, suggestions);
+                }
+            } finally {
+                finish();
+            }
+        }
+    }
+
+}
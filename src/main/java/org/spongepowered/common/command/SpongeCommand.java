@@ -61,6 +61,9 @@
 import org.spongepowered.common.config.SpongeConfig;
 import org.spongepowered.common.interfaces.world.IMixinWorld;
 import org.spongepowered.common.interfaces.world.IMixinWorldProvider;
+import org.spongepowered.common.scheduler.AsyncTaskExecutor;
+import org.spongepowered.common.scheduler.SpongeScheduler;
+import org.spongepowered.common.scheduler.SyncScheduler;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.world.DimensionManager;
 import org.spongepowered.common.world.SpongeDimensionType;
@@ -70,7 +73,9 @@
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -97,6 +102,7 @@ public static CommandSpec getCommand() {
         nonFlagChildren.register(getHeapCommand(), "heap");
         nonFlagChildren.register(getPluginsCommand(), "plugins");
         nonFlagChildren.register(getTimingsCommand(), "timings");
+        nonFlagChildren.register(getSchedulerCommand(), "scheduler");
         flagChildren.register(getChunksCommand(), "chunks");
         flagChildren.register(getConfigCommand(), "config");
         flagChildren.register(getReloadCommand(), "reload"); // TODO: Should these two be subcommands of config, and what is now config be set?
@@ -111,7 +117,8 @@ INDENT, title("reload"), LONG_INDENT, "Reloads a global, dimension, or world con
                         INDENT, title("save"), LONG_INDENT, "Saves a global, dimension, or world config\n",
                         INDENT, title("version"), LONG_INDENT, "Prints current Sponge version\n",
                         INDENT, title("audit"), LONG_INDENT, "Audit mixin classes for implementation",
-                        INDENT, title("plugins"), LONG_INDENT, "List currently installed plugins"))
+                        INDENT, title("plugins"), LONG_INDENT, "List currently installed plugins\n",
+                        INDENT, title("scheduler"), LONG_INDENT, "Prints scheduler statistics per plugin"))
                 .arguments(firstParsing(nonFlagChildren, flags()
                         .flag("-global", "g")
                         .valueFlag(world(Text.of("world")), "-world", "w")
@@ -421,6 +428,34 @@ private static CommandSpec getPluginsCommand() {
                 }).build();
     }
 
+    private static CommandSpec getSchedulerCommand() {
+        return CommandSpec.builder()
+                .description(Text.of("Print scheduler statistics per plugin"))
+                .permission("sponge.command.scheduler")
+                .executor((src, args) -> {
+                    Text.Builder builder = Text.builder().append(title("Async tasks"));
+                    for (AsyncTaskExecutor.PluginQueue queue : SpongeScheduler.getInstance().getAsyncTaskExecutor().getPluginQueues()) {
+                        long completed = Math.max(1, queue.getCompletedCount());
+                        builder.append(NEWLINE_TEXT, INDENT_TEXT, Text.of(TextColors.GOLD, queue.getPlugin().getId(), ": "),
+                                Text.of(TextColors.GRAY, "queued ", queue.getQueueDepth(),
+                                        ", submitted ", queue.getSubmittedCount(),
+                                        ", completed ", queue.getCompletedCount(),
+                                        ", rejected ", queue.getRejectedCount(),
+                                        ", avg wait ", queue.getTotalWaitTime(TimeUnit.MICROSECONDS) / completed, "us",
+                                        ", max wait ", queue.getMaxWaitTime(TimeUnit.MILLISECONDS), "ms",
+                                        ", avg run ", queue.getTotalRunTime(TimeUnit.MICROSECONDS) / completed, "us"));
+                    }
+                    SyncScheduler syncScheduler = SpongeScheduler.getInstance().getSyncScheduler();
+                    builder.append(NEWLINE_TEXT, title("Deferred sync tasks"), Text.of(TextColors.GRAY, " (pending ", syncScheduler.getDeferredTaskCount(), ")"));
+                    for (Map.Entry<String, Long> entry : syncScheduler.getDeferralCounts().entrySet()) {
+                        builder.append(NEWLINE_TEXT, INDENT_TEXT, Text.of(TextColors.GOLD, entry.getKey(), ": "), Text.of(TextColors.GRAY, entry.getValue()));
+                    }
+                    src.sendMessage(builder.build());
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
     private static void appendPluginMeta(Text.Builder builder, String key, Optional<String> value) {
         if (value.isPresent()) {
             appendPluginMeta(builder, key, value.get());
@@ -28,9 +28,12 @@
 import static org.spongepowered.api.command.CommandMessageFormatting.error;
 import static org.spongepowered.api.util.SpongeApiTranslationHelper.t;
 
+import co.aikar.timings.SpongeTimings;
+import co.aikar.timings.Timing;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Multimap;
 import org.slf4j.Logger;
 import org.spongepowered.api.Sponge;
@@ -54,6 +57,7 @@
 import org.spongepowered.api.text.action.TextActions;
 import org.spongepowered.api.text.serializer.TextSerializers;
 import org.spongepowered.api.util.TextMessageException;
+import org.spongepowered.common.SpongeImpl;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
@@ -63,8 +67,11 @@
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import javax.annotation.Nullable;
@@ -79,6 +86,9 @@ public class SpongeCommandManager implements CommandManager {
     private final SimpleDispatcher dispatcher;
     private final Multimap<PluginContainer, CommandMapping> owners = HashMultimap.create();
     private final Object lock = new Object();
+    private final Map<CommandMapping, Timing> timings = new ConcurrentHashMap<>();
+    // Sorted aliases for prefix lookups of the first argument, rebuilt after mappings change
+    @Nullable private volatile ImmutableSortedSet<String> aliasIndex;
 
     /**
      * Construct a simple {@link CommandManager}.
@@ -151,6 +161,8 @@ public Optional<CommandMapping> register(Object plugin, CommandCallable callable
 
             if (mapping.isPresent()) {
                 this.owners.put(container, mapping.get());
+                this.timings.put(mapping.get(), SpongeTimings.getCommandTiming(container, mapping.get()));
+                this.aliasIndex = null;
             }
 
             return mapping;
@@ -164,6 +176,8 @@ public Optional<CommandMapping> removeMapping(CommandMapping mapping) {
 
             if (removed.isPresent()) {
                 forgetMapping(removed.get());
+                this.timings.remove(removed.get());
+                this.aliasIndex = null;
             }
 
             return removed;
@@ -248,23 +262,30 @@ public boolean containsMapping(CommandMapping mapping) {
     @Override
     public CommandResult process(CommandSource source, String commandLine) {
         final String[] argSplit = commandLine.split(" ", 2);
-        final SendCommandEvent event = SpongeEventFactory.createSendCommandEvent(Cause.of(NamedCause.source(source)),
-            argSplit.length > 1 ? argSplit[1] : "", argSplit[0], CommandResult.empty());
-        Sponge.getGame().getEventManager().post(event);
-        if (event.isCancelled()) {
-            return event.getResult();
-        }
+        if (SpongeImpl.hasListeners(SendCommandEvent.class)) {
+            final SendCommandEvent event = SpongeEventFactory.createSendCommandEvent(Cause.of(NamedCause.source(source)),
+                argSplit.length > 1 ? argSplit[1] : "", argSplit[0], CommandResult.empty());
+            Sponge.getGame().getEventManager().post(event);
+            if (event.isCancelled()) {
+                return event.getResult();
+            }
 
-        // Only the first part of argSplit is used at the moment, do the other in the future if needed.
-        argSplit[0] = event.getCommand();
+            // Only the first part of argSplit is used at the moment, do the other in the future if needed.
+            argSplit[0] = event.getCommand();
 
-        commandLine = event.getCommand();
-        if (!event.getArguments().isEmpty()) {
-            commandLine = commandLine + ' ' + event.getArguments();
+            commandLine = event.getCommand();
+            if (!event.getArguments().isEmpty()) {
+                commandLine = commandLine + ' ' + event.getArguments();
+            }
         }
 
+        final Optional<CommandMapping> timedMapping = this.dispatcher.get(argSplit[0], source);
+        final Timing timing = timedMapping.isPresent() ? this.timings.get(timedMapping.get()) : null;
         try {
             try {
+                if (timing != null) {
+                    timing.startTimingIfSync();
+                }
                 return this.dispatcher.process(source, commandLine);
             } catch (InvocationCommandException ex) {
                 if (ex.getCause() != null) {
@@ -307,6 +328,10 @@ public CommandResult process(CommandSource source, String commandLine) {
             source.sendMessage(error(t("Error occurred while executing command: %s", excBuilder.build())));
             this.log.error(TextSerializers.PLAIN.serialize(t("Error occurred while executing command '%s' for source %s: %s", commandLine, source.toString(), String
                     .valueOf(thr.getMessage()))), thr);
+        } finally {
+            if (timing != null) {
+                timing.stopTimingIfSync();
+            }
         }
         return CommandResult.empty();
     }
@@ -315,21 +340,65 @@ public CommandResult process(CommandSource source, String commandLine) {
     public List<String> getSuggestions(CommandSource src, String arguments) {
         try {
             final String[] argSplit = arguments.split(" ", 2);
-            List<String> suggestions = new ArrayList<>(this.dispatcher.getSuggestions(src, arguments));
-            final TabCompleteEvent.Command event = SpongeEventFactory.createTabCompleteEventCommand(Cause.source(src).build(),
-                    ImmutableList.copyOf(suggestions), suggestions, argSplit.length > 1 ? argSplit[1] : "", argSplit[0], arguments);
-            Sponge.getGame().getEventManager().post(event);
-            if (event.isCancelled()) {
-                return ImmutableList.of();
-            } else {
-                return ImmutableList.copyOf(event.getTabCompletions());
-            }
+            final List<String> dispatcherSuggestions = argSplit.length == 1 ? getAliasSuggestions(src, argSplit[0])
+                    : this.dispatcher.getSuggestions(src, arguments);
+            return postTabCompleteEvent(src, arguments, dispatcherSuggestions);
         } catch (CommandException e) {
             src.sendMessage(error(t("Error getting suggestions: %s", e.getText())));
             return Collections.emptyList();
         }
     }
 
+    /**
+     * Posts a {@link TabCompleteEvent.Command} for suggestions gathered for
+     * the given command line, if anything is listening for it. Must be
+     * called from the main thread.
+     *
+     * @param src The source requesting suggestions
+     * @param arguments The full command line, without the leading slash
+     * @param dispatcherSuggestions The suggestions of the command
+     * @return The suggestions to send to the source
+     */
+    public List<String> postTabCompleteEvent(CommandSource src, String arguments, List<String> dispatcherSuggestions) {
+        if (!SpongeImpl.hasListeners(TabCompleteEvent.Command.class)) {
+            return ImmutableList.copyOf(dispatcherSuggestions);
+        }
+        final String[] argSplit = arguments.split(" ", 2);
+        List<String> suggestions = new ArrayList<>(dispatcherSuggestions);
+        final TabCompleteEvent.Command event = SpongeEventFactory.createTabCompleteEventCommand(Cause.source(src).build(),
+                ImmutableList.copyOf(suggestions), suggestions, argSplit.length > 1 ? argSplit[1] : "", argSplit[0], arguments);
+        Sponge.getGame().getEventManager().post(event);
+        if (event.isCancelled()) {
+            return ImmutableList.of();
+        } else {
+            return ImmutableList.copyOf(event.getTabCompletions());
+        }
+    }
+
+    private List<String> getAliasSuggestions(CommandSource src, String prefix) {
+        ImmutableSortedSet<String> aliasIndex = this.aliasIndex;
+        if (aliasIndex == null) {
+            // Built under the lock, so a mapping change can't clear the index before a stale one is stored
+            synchronized (this.lock) {
+                aliasIndex = this.aliasIndex;
+                if (aliasIndex == null) {
+                    this.aliasIndex = aliasIndex = ImmutableSortedSet.copyOf(this.dispatcher.getAliases());
+                }
+            }
+        }
+        final String lowerPrefix = prefix.toLowerCase(Locale.ENGLISH);
+        final ImmutableList.Builder<String> suggestions = ImmutableList.builder();
+        for (String alias : aliasIndex.subSet(lowerPrefix, true, lowerPrefix + Character.MAX_VALUE, false)) {
+            for (CommandMapping mapping : this.dispatcher.getAll(alias)) {
+                if (mapping.getCallable().testPermission(src)) {
+                    suggestions.add(alias);
+                    break;
+                }
+            }
+        }
+        return suggestions.build();
+    }
+
     @Override
     public boolean testPermission(CommandSource source) {
         return this.dispatcher.testPermission(source);
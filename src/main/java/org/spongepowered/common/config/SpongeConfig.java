@@ -73,11 +73,17 @@ public enum Type {
 
     public static final String CONFIG_ENABLED = "config-enabled";
 
+    // COMMANDS
+    public static final String COMMANDS_ASYNC_TAB_COMPLETE = "async-tab-complete";
+    public static final String COMMANDS_ASYNC_TAB_COMPLETE_MAX_IN_FLIGHT = "async-tab-complete-max-in-flight";
+    public static final String COMMANDS_ASYNC_TAB_COMPLETE_COMMANDS = "async-tab-complete-commands";
+
     // DEBUG
     public static final String DEBUG_THREAD_CONTENTION_MONITORING = "thread-contention-monitoring";
     public static final String DEBUG_DUMP_CHUNKS_ON_DEADLOCK = "dump-chunks-on-deadlock";
     public static final String DEBUG_DUMP_HEAP_ON_DEADLOCK = "dump-heap-on-deadlock";
     public static final String DEBUG_DUMP_THREADS_ON_WARN = "dump-threads-on-warn";
+    public static final String DEBUG_CHECK_ENTITY_UNIQUE_ID_INDEX = "check-entity-unique-id-index";
 
     // ENTITY
     public static final String ENTITY_MAX_BOUNDING_BOX_SIZE = "max-bounding-box-size";
@@ -99,6 +105,7 @@ public enum Type {
     // GENERAL
     public static final String GENERAL_DISABLE_WARNINGS = "disable-warnings";
     public static final String GENERAL_CHUNK_LOAD_OVERRIDE = "chunk-load-override";
+    public static final String GENERAL_FILE_BACKED_BLOCK_BUFFER_THRESHOLD = "file-backed-block-buffer-threshold";
 
     // LOGGING
     public static final String LOGGING_BLOCK_BREAK = "block-break";
@@ -123,6 +130,13 @@ public enum Type {
     public static final String BLOCK_TRACKING_BLACKLIST = "block-blacklist";
     public static final String BLOCK_TRACKING_ENABLED = "enabled";
 
+    // SCHEDULER
+    public static final String SCHEDULER_ASYNC_MAX_THREADS = "async-max-threads";
+    public static final String SCHEDULER_ASYNC_PLUGIN_QUEUE_LIMIT = "async-plugin-queue-limit";
+    public static final String SCHEDULER_ASYNC_REJECTION_POLICY = "async-rejection-policy";
+    public static final String SCHEDULER_SYNC_TICK_BUDGET = "sync-tick-budget";
+    public static final String SCHEDULER_SYNC_PLUGIN_TICK_BUDGETS = "sync-plugin-tick-budgets";
+
     // MODULES
     public static final String MODULE_ENTITY_ACTIVATION_RANGE = "entity-activation-range";
     public static final String MODULE_BUNGEECORD = "bungeecord";
@@ -250,6 +264,9 @@ public static class GlobalConfig extends ConfigBase {
         @Setting
         private ExploitCategory exploits = new ExploitCategory();
 
+        @Setting
+        private SchedulerCategory scheduler = new SchedulerCategory();
+
         public BungeeCordCategory getBungeeCord() {
             return this.bungeeCord;
         }
@@ -281,6 +298,10 @@ public ExploitCategory getExploits() {
             return this.exploits;
         }
 
+        public SchedulerCategory getScheduler() {
+            return this.scheduler;
+        }
+
         public Predicate<InetAddress> getIpSet(String name) {
             return this.ipSets.containsKey(name) ? Predicates.and(this.ipSets.get(name)) : null;
         }
@@ -398,10 +419,30 @@ public Map<String, String> getAliases() {
     public static class CommandsCategory extends Category {
         @Setting(comment = "A mapping from unqualified command alias to plugin id of the plugin that should handle a certain command")
         private Map<String, String> aliases = new HashMap<>();
+        @Setting(value = COMMANDS_ASYNC_TAB_COMPLETE, comment = "Complete arguments of commands that declare async-safe suggestions off the main thread")
+        private boolean asyncTabComplete = false;
+        @Setting(value = COMMANDS_ASYNC_TAB_COMPLETE_MAX_IN_FLIGHT,
+                comment = "Max async tab completions running at once per player. Newer requests replace the one waiting behind them")
+        private int asyncTabCompleteMaxInFlight = 1;
+        @Setting(value = COMMANDS_ASYNC_TAB_COMPLETE_COMMANDS,
+                comment = "Commands whose argument suggestions don't touch game state and may be completed off the main thread, as plugin qualified aliases like 'pluginid:command'")
+        private List<String> asyncTabCompleteCommands = new ArrayList<>();
 
         public Map<String, String> getAliases() {
             return this.aliases;
         }
+
+        public boolean isAsyncTabComplete() {
+            return this.asyncTabComplete;
+        }
+
+        public int getAsyncTabCompleteMaxInFlight() {
+            return Math.max(1, this.asyncTabCompleteMaxInFlight);
+        }
+
+        public List<String> getAsyncTabCompleteCommands() {
+            return this.asyncTabCompleteCommands;
+        }
     }
 
     @ConfigSerializable
@@ -415,6 +456,8 @@ public static class DebugCategory extends Category {
         private boolean dumpHeapOnDeadlock = false;
         @Setting(value = DEBUG_DUMP_THREADS_ON_WARN, comment = "Dump the server thread on deadlock warning")
         private boolean dumpThreadsOnWarn = false;
+        @Setting(value = DEBUG_CHECK_ENTITY_UNIQUE_ID_INDEX, comment = "Verify entity lookups by unique id against a full scan of loaded entities. Slow, only enable to diagnose issues.")
+        private boolean checkEntityUniqueIdIndex = false;
 
         public boolean isEnableThreadContentionMonitoring() {
             return this.enableThreadContentionMonitoring;
@@ -447,6 +490,14 @@ public boolean dumpThreadsOnWarn() {
         public void setDumpThreadsOnWarn(boolean dumpThreadsOnWarn) {
             this.dumpThreadsOnWarn = dumpThreadsOnWarn;
         }
+
+        public boolean checkEntityUniqueIdIndex() {
+            return this.checkEntityUniqueIdIndex;
+        }
+
+        public void setCheckEntityUniqueIdIndex(boolean checkEntityUniqueIdIndex) {
+            this.checkEntityUniqueIdIndex = checkEntityUniqueIdIndex;
+        }
     }
 
     @ConfigSerializable
@@ -457,6 +508,9 @@ public static class GeneralCategory extends Category {
         @Setting(value = GENERAL_CHUNK_LOAD_OVERRIDE,
                 comment = "Forces Chunk Loading on provide requests (speedup for mods that don't check if a chunk is loaded)")
         private boolean chunkLoadOverride = false;
+        @Setting(value = GENERAL_FILE_BACKED_BLOCK_BUFFER_THRESHOLD,
+                comment = "Block buffers with at least this many blocks are stored in a memory mapped temporary file instead of the heap (0 to disable)")
+        private long fileBackedBlockBufferThreshold = 0;
 
         public boolean disableWarnings() {
             return this.disableWarnings;
@@ -473,6 +527,10 @@ public boolean chunkLoadOverride() {
         public void setChunkLoadOverride(boolean chunkLoadOverride) {
             this.chunkLoadOverride = chunkLoadOverride;
         }
+
+        public long getFileBackedBlockBufferThreshold() {
+            return this.fileBackedBlockBufferThreshold;
+        }
     }
 
     @ConfigSerializable
@@ -993,6 +1051,62 @@ public void setPreventSignExploit(boolean preventSignExploit) {
         }
     }
 
+    @ConfigSerializable
+    public static class SchedulerCategory extends Category {
+
+        @Setting(value = SCHEDULER_ASYNC_MAX_THREADS, comment = "The maximum number of threads running asynchronous tasks. "
+                + "Set to 0 for no limit, plugin tasks which block for a long time may stall other tasks when limited.")
+        private int asyncMaxThreads = 0;
+        @Setting(value = SCHEDULER_ASYNC_PLUGIN_QUEUE_LIMIT, comment = "The maximum number of asynchronous tasks a single plugin may have "
+                + "waiting for a thread. Set to 0 to disable.")
+        private int asyncPluginQueueLimit = 0;
+        @Setting(value = SCHEDULER_ASYNC_REJECTION_POLICY, comment = "What to do with an asynchronous task submitted while its plugin's queue is "
+                + "full. 'caller-runs' runs the task on the submitting thread, 'abort' rejects it with an exception.")
+        private String asyncRejectionPolicy = "caller-runs";
+        @Setting(value = SCHEDULER_SYNC_TICK_BUDGET, comment = "The time in milliseconds synchronous tasks may run for each tick. Due tasks "
+                + "exceeding it are deferred to the next tick, ahead of other tasks. Set to 0 to disable.")
+        private int syncTickBudget = 0;
+        @Setting(value = SCHEDULER_SYNC_PLUGIN_TICK_BUDGETS, comment = "A mapping from plugin id to the time in milliseconds the synchronous "
+                + "tasks of that plugin may run for each tick.")
+        private Map<String, Integer> syncPluginTickBudgets = new HashMap<>();
+
+        public int getAsyncMaxThreads() {
+            return this.asyncMaxThreads;
+        }
+
+        public void setAsyncMaxThreads(int asyncMaxThreads) {
+            this.asyncMaxThreads = asyncMaxThreads;
+        }
+
+        public int getAsyncPluginQueueLimit() {
+            return this.asyncPluginQueueLimit;
+        }
+
+        public void setAsyncPluginQueueLimit(int asyncPluginQueueLimit) {
+            this.asyncPluginQueueLimit = asyncPluginQueueLimit;
+        }
+
+        public String getAsyncRejectionPolicy() {
+            return this.asyncRejectionPolicy;
+        }
+
+        public void setAsyncRejectionPolicy(String asyncRejectionPolicy) {
+            this.asyncRejectionPolicy = asyncRejectionPolicy;
+        }
+
+        public int getSyncTickBudget() {
+            return this.syncTickBudget;
+        }
+
+        public void setSyncTickBudget(int syncTickBudget) {
+            this.syncTickBudget = syncTickBudget;
+        }
+
+        public Map<String, Integer> getSyncPluginTickBudgets() {
+            return this.syncPluginTickBudgets;
+        }
+    }
+
     @ConfigSerializable
     private static class Category {
     }
@@ -28,15 +28,22 @@
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import org.spongepowered.api.CatalogType;
+import com.google.common.cache.CacheStats;
 import org.spongepowered.api.data.key.Key;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.common.SpongeImpl;
 
+import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 
@@ -48,16 +55,26 @@ private ImmutableDataCachingUtil() {}
     public static final int MANIPULATOR_CACHE_LIMIT = 100000;
     public static final int VALUE_CACHE_LIMIT = 100000;
 
-    private static final Cache<String, ImmutableDataManipulator<?, ?>> manipulatorCache = CacheBuilder.newBuilder()
+    private static final Cache<CacheKey, ImmutableDataManipulator<?, ?>> manipulatorCache = CacheBuilder.newBuilder()
         .maximumSize(MANIPULATOR_CACHE_LIMIT)
         .concurrencyLevel(4)
+        .recordStats()
         .build();
 
-    private static final Cache<String, ImmutableValue<?>> valueCache = CacheBuilder.newBuilder()
+    private static final Cache<CacheKey, ImmutableValue<?>> valueCache = CacheBuilder.newBuilder()
         .concurrencyLevel(4)
         .maximumSize(VALUE_CACHE_LIMIT)
+        .recordStats()
         .build();
 
+    public static CacheStats getManipulatorCacheStats() {
+        return manipulatorCache.stats();
+    }
+
+    public static CacheStats getValueCacheStats() {
+        return valueCache.stats();
+    }
+
     /**
      * Retrieves a basic manipulator from {@link Cache}. If the {@link Cache}
      * does not have the desired {@link ImmutableDataManipulator} with relative
@@ -75,7 +92,7 @@ private ImmutableDataCachingUtil() {}
      */
     @SuppressWarnings("unchecked")
     public static <T extends ImmutableDataManipulator<?, ?>> T getManipulator(final Class<T> immutableClass, final Object... args) {
-        final String key = getKey(immutableClass, args);
+        final CacheKey key = new CacheKey(immutableClass, args);
         // We can't really use the generic typing here because it's complicated...
         try {
             // Let's get the key
@@ -97,7 +114,7 @@ private ImmutableDataCachingUtil() {}
     @SuppressWarnings("unchecked")
     public static <E, V extends ImmutableValue<?>, T extends ImmutableValue<E>> T getValue(final Class<V> valueClass,
             final Key<? extends BaseValue<E>> usedKey, final E defaultArg, final E arg, final Object... extraArgs) {
-        final String key = getKey(valueClass, usedKey.getQuery().asString('.'), arg.getClass(), arg);
+        final CacheKey key = new CacheKey(valueClass, usedKey, arg);
         try {
             return (T) ImmutableDataCachingUtil.valueCache.get(key, (Callable<ImmutableValue<?>>) () -> {
                     try {
@@ -116,15 +133,65 @@ public static <E, V extends ImmutableValue<?>, T extends ImmutableValue<E>> T ge
         }
     }
 
-    private static String getKey(final Class<?> immutableClass, final Object... args) {
-        final StringBuilder builder = new StringBuilder(immutableClass.getCanonicalName() + ":");
-        for (Object object : args) {
-            if (object instanceof CatalogType) {
-                builder.append("{").append(((CatalogType) object).getId()).append("}");
-            } else {
-                builder.append("{").append(object.toString()).append("}");
+    /**
+     * A cache key made up of the class being cached and the arguments used to
+     * construct it. Arguments are compared with {@link Object#equals(Object)},
+     * so catalog types and other singletons compare by identity. Collections,
+     * maps and arrays are copied so that changing them after the lookup can't
+     * change the key, any other argument is expected to be immutable.
+     */
+    private static final class CacheKey {
+
+        private final Class<?> type;
+        private final Object[] args;
+        private final int hashCode;
+
+        CacheKey(Class<?> type, Object... args) {
+            this.type = type;
+            this.args = new Object[args.length];
+            for (int i = 0; i < args.length; i++) {
+                this.args[i] = snapshot(args[i]);
+            }
+            this.hashCode = 31 * type.hashCode() + Arrays.deepHashCode(this.args);
+        }
+
+        private static Object snapshot(Object arg) {
+            if (arg instanceof Set) {
+                return new LinkedHashSet<>((Set<?>) arg);
+            } else if (arg instanceof List) {
+                return new ArrayList<>((List<?>) arg);
+            } else if (arg instanceof Map) {
+                return new LinkedHashMap<>((Map<?, ?>) arg);
+            } else if (arg instanceof Object[]) {
+                final Object[] array = ((Object[]) arg).clone();
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = snapshot(array[i]);
+                }
+                return array;
+            } else if (arg != null && arg.getClass().isArray()) {
+                final int length = Array.getLength(arg);
+                final Object array = Array.newInstance(arg.getClass().getComponentType(), length);
+                System.arraycopy(arg, 0, array, 0, length);
+                return array;
+            }
+            return arg;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CacheKey)) {
+                return false;
             }
+            final CacheKey other = (CacheKey) obj;
+            return this.hashCode == other.hashCode && this.type == other.type && Arrays.deepEquals(this.args, other.args);
         }
-        return builder.toString();
     }
 }
@@ -25,6 +25,7 @@
 package org.spongepowered.common.data.processor.data.tileentity;
 
 import net.minecraft.block.BlockSkull;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.tileentity.TileEntitySkull;
 import net.minecraft.util.EnumFacing;
 import org.spongepowered.api.data.DataTransactionResult;
@@ -72,7 +73,9 @@ protected boolean set(TileEntitySkull skull, Direction value) {
 
     @Override
     protected Optional<Direction> getVal(TileEntitySkull skull) {
-        if (skull.getWorld().getBlockState(skull.getPos()).getValue(BlockSkull.FACING) != EnumFacing.UP) {
+        // Read through the tile entity, so it also works for tile entities of block snapshots which aren't in a world
+        final IBlockState state = skull.getBlockType().getStateFromMeta(skull.getBlockMetadata());
+        if (!(state.getBlock() instanceof BlockSkull) || state.getValue(BlockSkull.FACING) != EnumFacing.UP) {
             return Optional.empty();
         }
         int rot = skull.skullRotation % 16;
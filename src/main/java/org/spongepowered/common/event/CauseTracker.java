@@ -98,7 +98,9 @@
 import org.spongepowered.common.world.CaptureType;
 import org.spongepowered.common.world.SpongeProxyBlockAccess;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
@@ -129,9 +131,14 @@ public final class CauseTracker {
     @Nullable private Cause pluginCause;
     private List<BlockSnapshot> capturedSpongeBlockSnapshots = new ArrayList<>();
     private List<Transaction<BlockSnapshot>> invalidTransactions = new ArrayList<>();
+    // Reused between block capture handling, which may happen re-entrantly while notifying neighbors
+    private final Deque<BlockTransactionBuffer> transactionBuffers = new ArrayDeque<>();
     private boolean worldSpawnerRunning;
     private boolean chunkSpawnerRunning;
 
+    // The capture types with their own change block event, in the order the events are posted
+    private static final CaptureType[] PROCESSED_CAPTURE_TYPES = {CaptureType.BREAK, CaptureType.MODIFY, CaptureType.PLACE, CaptureType.DECAY};
+
     public CauseTracker(net.minecraft.world.World targetWorld) {
         this.targetWorld = targetWorld;
     }
@@ -305,6 +312,7 @@ public boolean hasPluginCause() {
     }
 
     public void handleEntitySpawns(Cause cause) {
+        final boolean hasListeners = SpongeImpl.hasListeners(SpawnEntityEvent.class);
         Iterator<Entity> iter = this.capturedEntities.iterator();
         ImmutableList.Builder<EntitySnapshot> entitySnapshotBuilder = new ImmutableList.Builder<>();
         while (iter.hasNext()) {
@@ -335,7 +343,15 @@ public void handleEntitySpawns(Cause cause) {
                     ((IMixinEntity) currentEntity).trackEntityUniqueId(NbtDataUtil.SPONGE_ENTITY_CREATOR, owner.get().getUniqueId());
                 }
             }
-            entitySnapshotBuilder.add(currentEntity.createSnapshot());
+            if (hasListeners) {
+                entitySnapshotBuilder.add(currentEntity.createSnapshot());
+            }
+        }
+
+        if (!hasListeners) {
+            // Nobody can observe the event, so skip the snapshots and spawn directly
+            spawnEntities(this.capturedEntities.iterator(), cause);
+            return;
         }
 
         List<EntitySnapshot> entitySnapshots = entitySnapshotBuilder.build();
@@ -366,31 +382,34 @@ public void handleEntitySpawns(Cause cause) {
         }
 
         if (!(SpongeImpl.postEvent(event))) {
-            Iterator<Entity> iterator = event.getEntities().iterator();
-            while (iterator.hasNext()) {
-                Entity entity = iterator.next();
-                if (entity.isRemoved()) { // Entity removed in an event handler
-                    iterator.remove();
-                    continue;
-                }
-                net.minecraft.entity.Entity nmsEntity = (net.minecraft.entity.Entity) entity;
-                if (nmsEntity instanceof EntityWeatherEffect) {
-                    addWeatherEffect(nmsEntity, cause);
-                } else {
-                    int x = MathHelper.floor_double(nmsEntity.posX / 16.0D);
-                    int z = MathHelper.floor_double(nmsEntity.posZ / 16.0D);
-                    this.getMinecraftWorld().getChunkFromChunkCoords(x, z).addEntity(nmsEntity);
-                    this.getMinecraftWorld().loadedEntityList.add(nmsEntity);
-                    this.getMixinWorld().onSpongeEntityAdded(nmsEntity);
-                    SpongeHooks.logEntitySpawn(cause, nmsEntity);
-                }
-                iterator.remove();
-            }
+            spawnEntities(event.getEntities().iterator(), cause);
         } else {
             this.capturedEntities.clear();
         }
     }
 
+    private void spawnEntities(Iterator<Entity> iterator, Cause cause) {
+        while (iterator.hasNext()) {
+            Entity entity = iterator.next();
+            if (entity.isRemoved()) { // Entity removed in an event handler
+                iterator.remove();
+                continue;
+            }
+            net.minecraft.entity.Entity nmsEntity = (net.minecraft.entity.Entity) entity;
+            if (nmsEntity instanceof EntityWeatherEffect) {
+                addWeatherEffect(nmsEntity, cause);
+            } else {
+                int x = MathHelper.floor_double(nmsEntity.posX / 16.0D);
+                int z = MathHelper.floor_double(nmsEntity.posZ / 16.0D);
+                this.getMinecraftWorld().getChunkFromChunkCoords(x, z).addEntity(nmsEntity);
+                this.getMinecraftWorld().loadedEntityList.add(nmsEntity);
+                this.getMixinWorld().onSpongeEntityAdded(nmsEntity);
+                SpongeHooks.logEntitySpawn(cause, nmsEntity);
+            }
+            iterator.remove();
+        }
+    }
+
     public void handlePostTickCaptures(Cause cause) {
         if (this.getMinecraftWorld().isRemote || this.restoringBlocks || this.spawningDeathDrops || cause == null) {
             return;
@@ -643,50 +662,55 @@ private boolean addWeatherEffect(net.minecraft.entity.Entity entity, Cause cause
     }
 
     public void handleBlockCaptures(Cause cause) {
+        BlockTransactionBuffer buffer = this.transactionBuffers.poll();
+        if (buffer == null) {
+            buffer = new BlockTransactionBuffer();
+        }
+        try {
+            handleBlockCaptures(cause, buffer);
+        } finally {
+            buffer.clear();
+            this.transactionBuffers.push(buffer);
+        }
+    }
+
+    private void handleBlockCaptures(Cause cause, BlockTransactionBuffer buffer) {
         EntityPlayerMP player = StaticMixinHelper.packetPlayer;
         Packet<?> packetIn = StaticMixinHelper.processingPacket;
 
-        ImmutableList<Transaction<BlockSnapshot>> blockBreakTransactions = null;
-        ImmutableList<Transaction<BlockSnapshot>> blockModifyTransactions = null;
-        ImmutableList<Transaction<BlockSnapshot>> blockPlaceTransactions = null;
-        ImmutableList<Transaction<BlockSnapshot>> blockDecayTransactions = null;
-        ImmutableList<Transaction<BlockSnapshot>> blockMultiTransactions = null;
-        ImmutableList.Builder<Transaction<BlockSnapshot>> breakBuilder = new ImmutableList.Builder<>();
-        ImmutableList.Builder<Transaction<BlockSnapshot>> placeBuilder = new ImmutableList.Builder<>();
-        ImmutableList.Builder<Transaction<BlockSnapshot>> decayBuilder = new ImmutableList.Builder<>();
-        ImmutableList.Builder<Transaction<BlockSnapshot>> modifyBuilder = new ImmutableList.Builder<>();
-        ImmutableList.Builder<Transaction<BlockSnapshot>> multiBuilder = new ImmutableList.Builder<>();
         ChangeBlockEvent.Break breakEvent = null;
         ChangeBlockEvent.Modify modifyEvent = null;
         ChangeBlockEvent.Place placeEvent = null;
         List<ChangeBlockEvent> blockEvents = new ArrayList<>();
 
-        Iterator<BlockSnapshot> iterator = this.capturedSpongeBlockSnapshots.iterator();
-        while (iterator.hasNext()) {
-            SpongeBlockSnapshot blockSnapshot = (SpongeBlockSnapshot) iterator.next();
-            CaptureType captureType = blockSnapshot.captureType;
+        for (BlockSnapshot snapshot : this.capturedSpongeBlockSnapshots) {
+            SpongeBlockSnapshot blockSnapshot = (SpongeBlockSnapshot) snapshot;
             BlockPos pos = VecHelper.toBlockPos(blockSnapshot.getPosition());
             IBlockState currentState = this.getMinecraftWorld().getBlockState(pos);
             Transaction<BlockSnapshot> transaction = new Transaction<>(blockSnapshot, this.getMixinWorld().createSpongeBlockSnapshot(currentState, currentState.getBlock()
                 .getActualState(currentState, this.getMinecraftWorld(), pos), pos, 0));
-            if (captureType == CaptureType.BREAK) {
-                breakBuilder.add(transaction);
-            } else if (captureType == CaptureType.DECAY) {
-                decayBuilder.add(transaction);
-            } else if (captureType == CaptureType.PLACE) {
-                placeBuilder.add(transaction);
-            } else if (captureType == CaptureType.MODIFY) {
-                modifyBuilder.add(transaction);
+            buffer.add(blockSnapshot.captureType, transaction);
+        }
+        this.capturedSpongeBlockSnapshots.clear();
+
+        final boolean breakFirst = !buffer.get(CaptureType.BREAK).isEmpty();
+
+        if (!SpongeImpl.hasListeners(ChangeBlockEvent.class)) {
+            // Nobody can cancel or modify the changes, so process the transactions without constructing any events
+            for (CaptureType captureType : PROCESSED_CAPTURE_TYPES) {
+                List<Transaction<BlockSnapshot>> transactions = buffer.get(captureType);
+                if (!transactions.isEmpty()) {
+                    processBlockTransactions(captureType, transactions, cause, player, packetIn, breakFirst);
+                }
             }
-            multiBuilder.add(transaction);
-            iterator.remove();
+            return;
         }
 
-        blockBreakTransactions = breakBuilder.build();
-        blockDecayTransactions = decayBuilder.build();
-        blockModifyTransactions = modifyBuilder.build();
-        blockPlaceTransactions = placeBuilder.build();
-        blockMultiTransactions = multiBuilder.build();
+        // Events may keep their transaction lists, so never hand out the reused buffers
+        ImmutableList<Transaction<BlockSnapshot>> blockBreakTransactions = ImmutableList.copyOf(buffer.get(CaptureType.BREAK));
+        ImmutableList<Transaction<BlockSnapshot>> blockModifyTransactions = ImmutableList.copyOf(buffer.get(CaptureType.MODIFY));
+        ImmutableList<Transaction<BlockSnapshot>> blockPlaceTransactions = ImmutableList.copyOf(buffer.get(CaptureType.PLACE));
+        ImmutableList<Transaction<BlockSnapshot>> blockDecayTransactions = ImmutableList.copyOf(buffer.get(CaptureType.DECAY));
         ChangeBlockEvent changeBlockEvent;
         if (blockBreakTransactions.size() > 0) {
             changeBlockEvent = SpongeEventFactory.createChangeBlockEventBreak(cause, this.getWorld(), blockBreakTransactions);
@@ -722,7 +746,7 @@ public void handleBlockCaptures(Cause cause) {
                 String namedCause = "PlaceEvent" + (count != 0 ? count : "");
                 cause = cause.with(NamedCause.of(namedCause, placeEvent));
             }
-            changeBlockEvent = SpongeEventFactory.createChangeBlockEventPost(cause, this.getWorld(), blockMultiTransactions);
+            changeBlockEvent = SpongeEventFactory.createChangeBlockEventPost(cause, this.getWorld(), ImmutableList.copyOf(buffer.getAll()));
             SpongeImpl.postEvent(changeBlockEvent);
             if (changeBlockEvent.isCancelled()) {
                 // Restore original blocks
@@ -768,12 +792,6 @@ public void handleBlockCaptures(Cause cause) {
                 captureType = CaptureType.PLACE;
             }
 
-            C08PacketPlayerBlockPlacement packet = null;
-
-            if (packetIn instanceof C08PacketPlayerBlockPlacement) {
-                packet = (C08PacketPlayerBlockPlacement) packetIn;
-            }
-
             if (blockEvent.isCancelled()) {
                 // Restore original blocks
                 ListIterator<Transaction<BlockSnapshot>>
@@ -788,58 +806,69 @@ public void handleBlockCaptures(Cause cause) {
                 this.capturedEntityItems.clear();
                 return;
             } else {
-                for (Transaction<BlockSnapshot> transaction : blockEvent.getTransactions()) {
-                    if (!transaction.isValid()) {
-                        this.invalidTransactions.add(transaction);
-                    } else {
-                        if (captureType == CaptureType.BREAK && cause.first(User.class).isPresent()) {
-                            BlockPos pos = VecHelper.toBlockPos(transaction.getOriginal().getPosition());
-                            for (EntityHanging hanging : SpongeHooks.findHangingEntities(this.getMinecraftWorld(), pos)) {
-                                if (hanging != null) {
-                                    if (hanging instanceof EntityItemFrame) {
-                                        EntityItemFrame itemFrame = (EntityItemFrame) hanging;
-                                        net.minecraft.entity.Entity dropCause = null;
-                                        if (cause.root() instanceof net.minecraft.entity.Entity) {
-                                            dropCause = (net.minecraft.entity.Entity) cause.root();
-                                        }
-
-                                        itemFrame.dropItemOrSelf(dropCause, true);
-                                        itemFrame.setDead();
-                                    }
+                processBlockTransactions(captureType, blockEvent.getTransactions(), cause, player, packetIn, breakFirst);
+            }
+        }
+    }
+
+    private void processBlockTransactions(CaptureType captureType, List<Transaction<BlockSnapshot>> transactions, Cause cause,
+            @Nullable EntityPlayerMP player, @Nullable Packet<?> packetIn, boolean breakFirst) {
+        C08PacketPlayerBlockPlacement packet = null;
+
+        if (packetIn instanceof C08PacketPlayerBlockPlacement) {
+            packet = (C08PacketPlayerBlockPlacement) packetIn;
+        }
+
+        for (Transaction<BlockSnapshot> transaction : transactions) {
+            if (!transaction.isValid()) {
+                this.invalidTransactions.add(transaction);
+            } else {
+                if (captureType == CaptureType.BREAK && cause.first(User.class).isPresent()) {
+                    BlockPos pos = VecHelper.toBlockPos(transaction.getOriginal().getPosition());
+                    for (EntityHanging hanging : SpongeHooks.findHangingEntities(this.getMinecraftWorld(), pos)) {
+                        if (hanging != null) {
+                            if (hanging instanceof EntityItemFrame) {
+                                EntityItemFrame itemFrame = (EntityItemFrame) hanging;
+                                net.minecraft.entity.Entity dropCause = null;
+                                if (cause.root() instanceof net.minecraft.entity.Entity) {
+                                    dropCause = (net.minecraft.entity.Entity) cause.root();
                                 }
-                            }
-                        }
 
-                        if (captureType == CaptureType.PLACE && player != null && packetIn instanceof C08PacketPlayerBlockPlacement) {
-                            BlockPos pos = VecHelper.toBlockPos(transaction.getFinal().getPosition());
-                            IMixinChunk spongeChunk = (IMixinChunk) this.getMinecraftWorld().getChunkFromBlockCoords(pos);
-                            spongeChunk.addTrackedBlockPosition((net.minecraft.block.Block) transaction.getFinal().getState().getType(), pos,
-                                (User) player, PlayerTracker.Type.OWNER);
-                            spongeChunk.addTrackedBlockPosition((net.minecraft.block.Block) transaction.getFinal().getState().getType(), pos,
-                                (User) player, PlayerTracker.Type.NOTIFIER);
+                                itemFrame.dropItemOrSelf(dropCause, true);
+                                itemFrame.setDead();
+                            }
                         }
                     }
                 }
 
-                if (this.invalidTransactions.size() > 0) {
-                    for (Transaction<BlockSnapshot> transaction : Lists.reverse(this.invalidTransactions)) {
-                        this.restoringBlocks = true;
-                        transaction.getOriginal().restore(true, false);
-                        this.restoringBlocks = false;
-                    }
-                    handlePostPlayerBlockEvent(captureType, this.invalidTransactions);
+                if (captureType == CaptureType.PLACE && player != null && packetIn instanceof C08PacketPlayerBlockPlacement) {
+                    BlockPos pos = VecHelper.toBlockPos(transaction.getFinal().getPosition());
+                    IMixinChunk spongeChunk = (IMixinChunk) this.getMinecraftWorld().getChunkFromBlockCoords(pos);
+                    spongeChunk.addTrackedBlockPosition((net.minecraft.block.Block) transaction.getFinal().getState().getType(), pos,
+                        (User) player, PlayerTracker.Type.OWNER);
+                    spongeChunk.addTrackedBlockPosition((net.minecraft.block.Block) transaction.getFinal().getState().getType(), pos,
+                        (User) player, PlayerTracker.Type.NOTIFIER);
                 }
+            }
+        }
 
-                if (this.capturedEntityItems.size() > 0 && blockEvents.get(0) == breakEvent) {
-                    StaticMixinHelper.destructItemDrop = true;
-                }
+        if (this.invalidTransactions.size() > 0) {
+            for (Transaction<BlockSnapshot> transaction : Lists.reverse(this.invalidTransactions)) {
+                this.restoringBlocks = true;
+                transaction.getOriginal().restore(true, false);
+                this.restoringBlocks = false;
+            }
+            handlePostPlayerBlockEvent(captureType, this.invalidTransactions);
+        }
+
+        if (this.capturedEntityItems.size() > 0 && breakFirst) {
+            StaticMixinHelper.destructItemDrop = true;
+        }
 
-                this.markAndNotifyBlockPost(blockEvent.getTransactions(), captureType, cause);
+        this.markAndNotifyBlockPost(transactions, captureType, cause);
 
-                if (captureType == CaptureType.PLACE && player != null && packet != null && packet.getStack() != null) {
-                    player.addStat(StatList.objectUseStats[net.minecraft.item.Item.getIdFromItem(packet.getStack().getItem())], 1);
-                }
-            }
+        if (captureType == CaptureType.PLACE && player != null && packet != null && packet.getStack() != null) {
+            player.addStat(StatList.objectUseStats[net.minecraft.item.Item.getIdFromItem(packet.getStack().getItem())], 1);
         }
     }
 
@@ -1202,4 +1231,45 @@ private boolean shouldChainCause(Cause cause) {
                && !cause.contains(this.getCurrentTickBlock().get()) && !(StaticMixinHelper.processingPacket instanceof C03PacketPlayer);
 
     }
+
+    /**
+     * The transactions built while handling captured block changes, grouped
+     * by capture type. The lists keep their capacity between uses, so large
+     * captures do not allocate and grow new lists every time.
+     */
+    private static final class BlockTransactionBuffer {
+
+        private final List<Transaction<BlockSnapshot>>[] byType;
+        private final List<Transaction<BlockSnapshot>> all = new ArrayList<>();
+
+        @SuppressWarnings("unchecked")
+        BlockTransactionBuffer() {
+            this.byType = new List[CaptureType.values().length];
+            for (int i = 0; i < this.byType.length; i++) {
+                this.byType[i] = new ArrayList<>();
+            }
+        }
+
+        void add(CaptureType captureType, Transaction<BlockSnapshot> transaction) {
+            this.byType[captureType.ordinal()].add(transaction);
+            this.all.add(transaction);
+        }
+
+        List<Transaction<BlockSnapshot>> get(CaptureType captureType) {
+            return this.byType[captureType.ordinal()];
+        }
+
+        List<Transaction<BlockSnapshot>> getAll() {
+            return this.all;
+        }
+
+        void clear() {
+            for (List<Transaction<BlockSnapshot>> transactions : this.byType) {
+                transactions.clear();
+            }
+            this.all.clear();
+        }
+
+    }
+
 }
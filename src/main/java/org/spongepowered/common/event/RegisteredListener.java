@@ -26,15 +26,13 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
+import com.google.common.collect.ImmutableList;
 import org.spongepowered.api.event.Cancellable;
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.EventListener;
 import org.spongepowered.api.event.Order;
 import org.spongepowered.api.plugin.PluginContainer;
 
-import java.util.EnumMap;
 import java.util.List;
 
 public final class RegisteredListener<T extends Event> implements SpongeEventListener<T>, Comparable<RegisteredListener<?>> {
@@ -91,22 +89,33 @@ public int compareTo(RegisteredListener<?> handler) {
         return this.order.compareTo(handler.order);
     }
 
+    /**
+     * An immutable snapshot of the sorted listeners for an event class. The
+     * listeners are split by {@link Order} once when the cache is baked, so
+     * that posting never has to filter or copy them.
+     */
     public static final class Cache {
 
-        private final List<RegisteredListener<?>> listeners;
-        private final EnumMap<Order, List<RegisteredListener<?>>> listenersByOrder;
-
         private static final Order[] ORDERS = Order.values();
 
+        private final ImmutableList<RegisteredListener<?>> listeners;
+        private final ImmutableList<RegisteredListener<?>>[] listenersByOrder;
+
+        @SuppressWarnings("unchecked")
         Cache(List<RegisteredListener<?>> listeners) {
-            this.listeners = listeners;
+            this.listeners = ImmutableList.copyOf(listeners);
 
-            this.listenersByOrder = Maps.newEnumMap(Order.class);
-            for (Order order : ORDERS) {
-                this.listenersByOrder.put(order, Lists.<RegisteredListener<?>>newArrayList());
+            ImmutableList.Builder<RegisteredListener<?>>[] builders = new ImmutableList.Builder[ORDERS.length];
+            for (int i = 0; i < builders.length; i++) {
+                builders[i] = ImmutableList.builder();
             }
-            for (RegisteredListener<?> handler : listeners) {
-                this.listenersByOrder.get(handler.getOrder()).add(handler);
+            for (RegisteredListener<?> handler : this.listeners) {
+                builders[handler.getOrder().ordinal()].add(handler);
+            }
+
+            this.listenersByOrder = new ImmutableList[ORDERS.length];
+            for (int i = 0; i < builders.length; i++) {
+                this.listenersByOrder[i] = builders[i].build();
             }
         }
 
@@ -115,7 +124,7 @@ public List<RegisteredListener<?>> getListeners() {
         }
 
         public List<RegisteredListener<?>> getListenersByOrder(Order order) {
-            return this.listenersByOrder.get(checkNotNull(order, "order"));
+            return this.listenersByOrder[checkNotNull(order, "order").ordinal()];
         }
 
     }
@@ -32,6 +32,7 @@
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Sets;
 import com.google.common.reflect.TypeToken;
@@ -52,6 +53,7 @@
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -71,10 +73,26 @@ public class SpongeEventManager implements EventManager {
     private final Multimap<Class<?>, RegisteredListener<?>> handlersByEvent = HashMultimap.create();
     private final Set<Object> registeredListeners = Sets.newHashSet();
 
+    /**
+     * The precomputed hierarchy of every baked event class, containing all
+     * of its supertypes which are events themselves. Class hierarchies never
+     * change, so entries are never removed.
+     */
+    private final Map<Class<? extends Event>, Set<Class<?>>> eventHierarchies = Maps.newHashMap();
+
+    /**
+     * The inverse of {@link #eventHierarchies}, mapping an event type to the
+     * baked event classes assignable to it. Used to only invalidate the
+     * affected entries of the {@link #handlersCache} when handlers are added
+     * or removed.
+     */
+    private final Multimap<Class<?>, Class<? extends Event>> bakedEventsByType = HashMultimap.create();
+
     /**
      * A cache of all the handlers for an event type for quick event posting.
-     * <p>The cache is currently entirely invalidated if handlers are added or
-     * removed.</p>
+     * <p>When handlers for an event type are added or removed, only the
+     * entries of the event classes assignable to that type are
+     * invalidated.</p>
      */
     private final LoadingCache<Class<? extends Event>, RegisteredListener.Cache> handlersCache =
             CacheBuilder.newBuilder().build(new CacheLoader<Class<? extends Event>, RegisteredListener.Cache>() {
@@ -84,21 +102,26 @@ public RegisteredListener.Cache load(Class<? extends Event> eventClass) throws E
                 }
             });
 
+    /**
+     * A cache of whether any handler could receive an event of a given type,
+     * which is either a handler for one of its supertypes or one of its
+     * subtypes. Entirely cleared if handlers are added or removed. Entries are
+     * only computed and written while holding the lock, so a value computed
+     * before a registration can't be written back after the cache was cleared.
+     */
+    private final Map<Class<? extends Event>, Boolean> listenerPresenceCache = Maps.newConcurrentMap();
+
     @Inject
     public SpongeEventManager(PluginManager pluginManager) {
         this.pluginManager = checkNotNull(pluginManager, "pluginManager");
     }
 
-    private RegisteredListener.Cache bakeHandlers(Class<?> rootEvent) {
+    private RegisteredListener.Cache bakeHandlers(Class<? extends Event> rootEvent) {
         List<RegisteredListener<?>> handlers = Lists.newArrayList();
-        @SuppressWarnings({"unchecked", "rawtypes"})
-        Set<Class<?>> types = (Set) TypeToken.of(rootEvent).getTypes().rawTypes();
 
         synchronized (this.lock) {
-            for (Class<?> type : types) {
-                if (Event.class.isAssignableFrom(type)) {
-                    handlers.addAll(this.handlersByEvent.get(type));
-                }
+            for (Class<?> type : getEventHierarchy(rootEvent)) {
+                handlers.addAll(this.handlersByEvent.get(type));
             }
         }
 
@@ -106,6 +129,41 @@ private RegisteredListener.Cache bakeHandlers(Class<?> rootEvent) {
         return new RegisteredListener.Cache(handlers);
     }
 
+    private boolean hasHandlers(Class<? extends Event> eventClass) {
+        synchronized (this.lock) {
+            for (Class<?> type : this.handlersByEvent.keySet()) {
+                if (type.isAssignableFrom(eventClass) || eventClass.isAssignableFrom(type)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private Set<Class<?>> getEventHierarchy(Class<? extends Event> eventClass) {
+        Set<Class<?>> hierarchy = this.eventHierarchies.get(eventClass);
+        if (hierarchy == null) {
+            hierarchy = Sets.newHashSet();
+            for (Class<?> type : TypeToken.of(eventClass).getTypes().rawTypes()) {
+                if (Event.class.isAssignableFrom(type)) {
+                    hierarchy.add(type);
+                    this.bakedEventsByType.put(type, eventClass);
+                }
+            }
+            this.eventHierarchies.put(eventClass, hierarchy);
+        }
+        return hierarchy;
+    }
+
+    private void invalidateHandlers(Set<Class<?>> eventTypes) {
+        Set<Class<? extends Event>> affected = Sets.newHashSet();
+        for (Class<?> type : eventTypes) {
+            affected.addAll(this.bakedEventsByType.get(type));
+        }
+        this.handlersCache.invalidateAll(affected);
+        this.listenerPresenceCache.clear();
+    }
+
     private static boolean isValidHandler(Method method) {
         int modifiers = method.getModifiers();
         if (Modifier.isStatic(modifiers) || !Modifier.isPublic(modifiers) || Modifier.isAbstract(modifiers)
@@ -124,16 +182,16 @@ private void register(RegisteredListener<?> handler) {
 
     private void register(List<RegisteredListener<?>> handlers) {
         synchronized (this.lock) {
-            boolean changed = false;
+            Set<Class<?>> changed = Sets.newHashSet();
 
             for (RegisteredListener<?> handler : handlers) {
                 if (this.handlersByEvent.put(handler.getEventClass(), handler)) {
-                    changed = true;
+                    changed.add(handler.getEventClass());
                 }
             }
 
-            if (changed) {
-                this.handlersCache.invalidateAll();
+            if (!changed.isEmpty()) {
+                invalidateHandlers(changed);
             }
         }
     }
@@ -217,19 +275,19 @@ public <T extends Event> void registerListener(Object plugin, Class<T> eventClas
 
     private void unregister(Predicate<RegisteredListener<?>> unregister) {
         synchronized (this.lock) {
-            boolean changed = false;
+            Set<Class<?>> changed = Sets.newHashSet();
 
             Iterator<RegisteredListener<?>> itr = this.handlersByEvent.values().iterator();
             while (itr.hasNext()) {
                 RegisteredListener<?> handler = itr.next();
                 if (unregister.test(handler)) {
                     itr.remove();
-                    changed = true;
+                    changed.add(handler.getEventClass());
                 }
             }
 
-            if (changed) {
-                this.handlersCache.invalidateAll();
+            if (!changed.isEmpty()) {
+                invalidateHandlers(changed);
             }
         }
     }
@@ -247,6 +305,25 @@ public void unregisterPluginListeners(Object pluginObj) {
         unregister(handler -> plugin.equals(handler.getPlugin()));
     }
 
+    /**
+     * Gets whether any registered handler could receive an event of the
+     * given type, so that callers can skip constructing events, causes and
+     * snapshots nobody will observe.
+     *
+     * @param eventClass The event type, may be an interface
+     * @return True if an event of the type may have handlers
+     */
+    public boolean hasListeners(Class<? extends Event> eventClass) {
+        Boolean present = this.listenerPresenceCache.get(checkNotNull(eventClass, "eventClass"));
+        if (present == null) {
+            synchronized (this.lock) {
+                present = hasHandlers(eventClass);
+                this.listenerPresenceCache.put(eventClass, present);
+            }
+        }
+        return present;
+    }
+
     protected RegisteredListener.Cache getHandlerCache(Event event) {
         return this.handlersCache.getUnchecked(checkNotNull(event, "event").getClass());
     }
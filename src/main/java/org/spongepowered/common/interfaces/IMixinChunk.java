@@ -31,8 +31,8 @@
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.world.storage.BlockTrackerStore;
 
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -40,9 +40,7 @@ public interface IMixinChunk {
 
     Cause getCurrentPopulateCause();
 
-    Map<Short, PlayerTracker> getTrackedShortPlayerPositions();
-
-    Map<Integer, PlayerTracker> getTrackedIntPlayerPositions();
+    BlockTrackerStore getTrackedBlockStore();
 
     Optional<User> getBlockOwner(BlockPos pos);
 
@@ -56,8 +54,16 @@ public interface IMixinChunk {
 
     void addTrackedBlockPosition(Block block, BlockPos pos, User user, PlayerTracker.Type trackerType);
 
-    void setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPlayerPositions);
-
-    void setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPlayerPositions);
+    /**
+     * Tracks a block position by the world's index of the user's unique id,
+     * avoiding resolving the {@link User} when passing tracking on from
+     * another tracked position.
+     *
+     * @param block The block at the position
+     * @param pos The position
+     * @param userIndex The user's index, see {@link org.spongepowered.common.interfaces.world.IMixinWorldInfo#getIndexForUniqueId}
+     * @param trackerType The type of tracking
+     */
+    void addTrackedBlockPosition(Block block, BlockPos pos, int userIndex, PlayerTracker.Type trackerType);
 
 }
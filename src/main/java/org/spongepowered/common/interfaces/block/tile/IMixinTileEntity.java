@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.interfaces.block.tile;
 
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.nbt.NBTTagCompound;
 import org.spongepowered.api.block.tileentity.TileEntity;
 import org.spongepowered.api.data.DataQuery;
@@ -83,4 +84,13 @@ default NBTTagCompound getSpongeData() {
 
     void markDirty();
 
+    /**
+     * Sets the block state this tile entity belongs to, so that a tile
+     * entity which isn't added to a world doesn't look up its block in the
+     * world.
+     *
+     * @param state The block state
+     */
+    void setBlockState(IBlockState state);
+
 }
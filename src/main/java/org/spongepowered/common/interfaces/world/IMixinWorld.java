@@ -40,6 +40,7 @@
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
 
 import java.util.List;
+import java.util.Optional;
 
 import javax.annotation.Nullable;
 
@@ -69,6 +70,19 @@ public interface IMixinWorld {
 
     SpongeChunkProvider createChunkProvider(SpongeWorldGenerator newGenerator);
 
+    /**
+     * Creates a copy of the base terrain generation of this world which
+     * doesn't share any state with the world generator, so it can generate
+     * chunks off the main thread. The copy only generates the blocks of a
+     * chunk, population and structures are left to the world generator.
+     *
+     * <p>Must be called on the main thread.</p>
+     *
+     * @return The chunk generator, or empty if the world generator may not be
+     *     used off the main thread
+     */
+    Optional<SpongeChunkProvider> createBaseChunkGenerator();
+
     void onSpongeEntityAdded(net.minecraft.entity.Entity entity);
 
     void markAndNotifyNeighbors(BlockPos pos, @Nullable net.minecraft.world.chunk.Chunk chunk, IBlockState old, IBlockState new_, int flags);
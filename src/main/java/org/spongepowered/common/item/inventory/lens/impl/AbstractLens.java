@@ -40,6 +40,7 @@
 import org.spongepowered.common.item.inventory.lens.InvalidLensDefinitionException;
 import org.spongepowered.common.item.inventory.lens.Lens;
 import org.spongepowered.common.item.inventory.lens.MutableLensCollection;
+import org.spongepowered.common.item.inventory.lens.MutableLensSet;
 import org.spongepowered.common.item.inventory.lens.SlotProvider;
 import org.spongepowered.common.item.inventory.lens.impl.collections.MutableLensCollectionImpl;
 import org.spongepowered.common.item.inventory.lens.impl.struct.LensHandle;
@@ -52,8 +53,10 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 public abstract class AbstractLens<TInventory, TStack> extends ObservableLens<TInventory, TStack> implements Observer<InventoryEventArgs> {
@@ -76,6 +79,8 @@
     
     private int maxOrdinal = 0;
     
+    private Map<Object, MutableLensSet<TInventory, TStack>> queryResults;
+    
     public AbstractLens(int base, int size, InventoryAdapter<TInventory, TStack> adapter, SlotProvider<TInventory, TStack> slots) {
         this(base, size, checkNotNull(adapter, "adapter"), adapter.getClass(), slots);
     }
@@ -144,6 +149,7 @@ protected void addChild(Lens<TInventory, TStack> lens, InventoryProperty<?, ?>..
             ((ObservableLens<TInventory, TStack>) lens).addObserver(this);
         }
         
+        this.queryResults = null;
         this.raise(new InventoryEventArgs(Type.LENS_ADDED, this));
     }
     
@@ -305,8 +311,27 @@ public void notify(Object source, InventoryEventArgs e) {
         if (e.type == Type.LENS_ADDED && source instanceof Lens && this.children.contains(source)) {
             this.availableSlots.addAll(((Lens<?, ?>)source).getSlots());
         }
+        if (e.type == Type.LENS_ADDED || e.type == Type.LENS_REMOVED || e.type == Type.SLOT_PROPERTY_CHANGED) {
+            // Structure below this lens changed, so must the structure of our ancestors
+            this.queryResults = null;
+            this.raise(e);
+        }
     }        
 
+    /**
+     * Gets the results of structural queries run against this lens, keyed by
+     * {@link org.spongepowered.common.item.inventory.query.QueryStrategy#getCacheKey}.
+     * Cleared whenever a lens is added anywhere beneath this lens.
+     * 
+     * @return cached query results
+     */
+    public Map<Object, MutableLensSet<TInventory, TStack>> getQueryResults() {
+        if (this.queryResults == null) {
+            this.queryResults = new HashMap<Object, MutableLensSet<TInventory, TStack>>(4);
+        }
+        return this.queryResults;
+    }
+
     @Override
     public void invalidate(Fabric<TInventory> inv) {
         this.raise(new InventoryEventArgs(Type.LENS_INVALIDATED, this));
@@ -39,6 +39,7 @@
 import org.spongepowered.common.item.inventory.lens.Fabric;
 import org.spongepowered.common.item.inventory.lens.Lens;
 import org.spongepowered.common.item.inventory.lens.MutableLensSet;
+import org.spongepowered.common.item.inventory.lens.impl.AbstractLens;
 import org.spongepowered.common.item.inventory.lens.impl.collections.MutableLensSetImpl;
 import org.spongepowered.common.item.inventory.query.result.MinecraftResultAdapterProvider;
 import org.spongepowered.common.item.inventory.query.result.QueryResult;
@@ -127,7 +128,22 @@ public Inventory execute(ResultAdapterProvider<TInventory, TStack> resultProvide
             return this.adapter;
         }
         
-        return this.toResult(resultProvider, this.depthFirstSearch(this.lens));
+        return this.toResult(resultProvider, this.search());
+    }
+
+    private MutableLensSet<TInventory, TStack> search() {
+        Object cacheKey = this.strategy.getCacheKey();
+        if (cacheKey == null || !(this.lens instanceof AbstractLens)) {
+            return this.depthFirstSearch(this.lens);
+        }
+        
+        Map<Object, MutableLensSet<TInventory, TStack>> results = ((AbstractLens<TInventory, TStack>) this.lens).getQueryResults();
+        MutableLensSet<TInventory, TStack> matches = results.get(cacheKey);
+        if (matches == null) {
+            matches = this.depthFirstSearch(this.lens);
+            results.put(cacheKey, matches);
+        }
+        return matches;
     }
 
     @SuppressWarnings("unchecked")
@@ -171,7 +187,7 @@ private MutableLensSet<TInventory, TStack> depthFirstSearch(Lens<TInventory, TSt
     }
 
     private MutableLensSet<TInventory, TStack> reduce(Lens<TInventory, TStack> lens, MutableLensSet<TInventory, TStack> matches) {
-        if (lens.getSlots().equals(this.getSlots(matches))) {
+        if (this.coversSlots(lens.getSlots(), matches) && lens.getSlots().equals(this.getSlots(matches))) {
             matches.clear();
             matches.add(lens);
             return matches;
@@ -197,6 +213,21 @@ private MutableLensSet<TInventory, TStack> reduce(Lens<TInventory, TStack> lens,
 //        return true;
 //    }
 
+    /**
+     * Cheap check whether the lenses could possibly cover all the given slots,
+     * to avoid building their slot union when they clearly don't.
+     */
+    private boolean coversSlots(TIntSet slots, Collection<Lens<TInventory, TStack>> lenses) {
+        int count = 0;
+        for (Lens<TInventory, TStack> lens : lenses) {
+            count += lens.getSlots().size();
+            if (count >= slots.size()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private TIntSet getSlots(Collection<Lens<TInventory, TStack>> lenses) {
         TIntSet slots = new TIntHashSet();
         for (Lens<TInventory, TStack> lens : lenses) {
@@ -32,4 +32,15 @@
     public abstract QueryStrategy<TInventory, TStack, TArgs> with(TArgs[] args);
 
     public abstract boolean matches(Lens<TInventory, TStack> lens, Lens<TInventory, TStack> parent, Fabric<TInventory> inventory);
+
+    /**
+     * Gets a key identifying the results of this strategy if they depend only
+     * on the structure of the lens tree, so they can be reused until it
+     * changes. Strategies inspecting inventory contents or names return null.
+     * 
+     * @return cache key, or null if results may not be cached
+     */
+    public Object getCacheKey() {
+        return null;
+    }
 }
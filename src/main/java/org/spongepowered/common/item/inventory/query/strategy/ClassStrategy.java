@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.item.inventory.query.strategy;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import org.spongepowered.common.item.inventory.lens.Fabric;
 import org.spongepowered.common.item.inventory.lens.Lens;
@@ -55,4 +56,9 @@ public boolean matches(Lens<TInventory, TStack> lens, Lens<TInventory, TStack> p
         return false;
     }
 
+    @Override
+    public Object getCacheKey() {
+        return ImmutableList.of(ClassStrategy.class, this.classes);
+    }
+
 }
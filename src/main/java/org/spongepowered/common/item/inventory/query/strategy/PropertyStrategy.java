@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.item.inventory.query.strategy;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import org.spongepowered.api.item.inventory.InventoryProperty;
 import org.spongepowered.common.item.inventory.lens.Fabric;
@@ -71,4 +72,9 @@ public boolean matches(Lens<TInventory, TStack> lens, Lens<TInventory, TStack> p
         return false;
     }
 
+    @Override
+    public Object getCacheKey() {
+        return ImmutableList.of(PropertyStrategy.class, this.properties);
+    }
+
 }
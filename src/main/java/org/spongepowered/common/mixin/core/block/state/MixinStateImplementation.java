@@ -68,10 +68,12 @@
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import javax.annotation.Nullable;
@@ -83,6 +85,8 @@
 @Mixin(net.minecraft.block.state.BlockState.StateImplementation.class)
 public abstract class MixinStateImplementation extends BlockStateBase implements BlockState, IMixinBlockState {
 
+    private static final int MAX_TRANSITIONS_PER_KEY = 64;
+
     @Shadow @Final private Block block;
     @Shadow @Final private ImmutableMap<IProperty<?>, Comparable<?>> properties;
 
@@ -90,6 +94,9 @@ public abstract class MixinStateImplementation extends BlockStateBase implements
     private ImmutableSet<Key<?>> keys;
     private ImmutableList<ImmutableDataManipulator<?, ?>> manipulators;
     private ImmutableMap<Key<?>, Object> keyMap;
+    private ImmutableMap<Key<?>, ImmutableValue<?>> valueMap;
+    // Results of with(key, value), filled in as they are requested
+    @Nullable private volatile Map<Key<?>, Map<Object, Optional<BlockState>>> transitions;
 
     private String id;
 
@@ -174,7 +181,20 @@ public <E> Optional<BlockState> with(Key<? extends BaseValue<E>> key, E value) {
         if (!supports(key)) {
             return Optional.empty();
         }
-        return ((IMixinBlock) this.block).getStateWithValue(this, key, value);
+        Map<Key<?>, Map<Object, Optional<BlockState>>> transitions = this.transitions;
+        if (transitions == null) {
+            this.transitions = transitions = new ConcurrentHashMap<>();
+        }
+        final Map<Object, Optional<BlockState>> byValue = transitions.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+        Optional<BlockState> state = byValue.get(checkNotNull(value));
+        if (state == null) {
+            state = ((IMixinBlock) this.block).getStateWithValue(this, key, value);
+            // Values a key doesn't accept aren't bounded by the block's states, don't let them pile up
+            if (byValue.size() < MAX_TRANSITIONS_PER_KEY) {
+                byValue.put(value, state);
+            }
+        }
+        return state;
     }
 
     @Override
@@ -260,25 +280,25 @@ public <E> Optional<E> get(Key<? extends BaseValue<E>> key) {
         if(this.keyMap == null) {
             this.populateKeyValues();
         }
-        if (this.keyMap.containsKey(checkNotNull(key))) {
-            return Optional.of((E) this.keyMap.get(key));
-        }
-        return Optional.empty();
+        return Optional.ofNullable((E) this.keyMap.get(checkNotNull(key)));
     }
 
     private void populateKeyValues() {
         ImmutableMap.Builder<Key<?>, Object> builder = ImmutableMap.builder();
         ImmutableSet.Builder<Key<?>> keyBuilder = ImmutableSet.builder();
         ImmutableSet.Builder<ImmutableValue<?>> valueBuilder = ImmutableSet.builder();
+        Map<Key<?>, ImmutableValue<?>> valueMap = new LinkedHashMap<>();
         for (ImmutableDataManipulator<?, ?> manipulator : this.getManipulators()) {
             for (ImmutableValue<?> value : manipulator.getValues()) {
                 builder.put(value.getKey(), value.get());
                 valueBuilder.add(value);
                 keyBuilder.add(value.getKey());
+                valueMap.putIfAbsent(value.getKey(), value);
             }
         }
         this.values = valueBuilder.build();
         this.keys = keyBuilder.build();
+        this.valueMap = ImmutableMap.copyOf(valueMap);
         this.keyMap = builder.build();
     }
 
@@ -286,12 +306,11 @@ private void populateKeyValues() {
     @Override
     public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
         checkNotNull(key);
-        for (ImmutableValue<?> value : this.getValues()) {
-            if (value.getKey().equals(key)) {
-                return Optional.of((V) value.asMutable());
-            }
+        if (this.valueMap == null) {
+            populateKeyValues();
         }
-        return Optional.empty();
+        final ImmutableValue<?> value = this.valueMap.get(key);
+        return value == null ? Optional.empty() : Optional.of((V) value.asMutable());
     }
 
     @Override
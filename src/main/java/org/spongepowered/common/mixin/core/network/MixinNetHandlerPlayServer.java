@@ -42,6 +42,7 @@
 import net.minecraft.network.play.client.C0EPacketClickWindow;
 import net.minecraft.network.play.client.C10PacketCreativeInventoryAction;
 import net.minecraft.network.play.client.C12PacketUpdateSign;
+import net.minecraft.network.play.client.C14PacketTabComplete;
 import net.minecraft.network.play.client.C17PacketCustomPayload;
 import net.minecraft.network.play.client.C19PacketResourcePackStatus;
 import net.minecraft.network.play.server.S38PacketPlayerListItem;
@@ -87,6 +88,7 @@
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.command.AsyncTabCompleter;
 import org.spongepowered.common.entity.player.tab.SpongeTabList;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.interfaces.IMixinContainer;
@@ -220,6 +222,15 @@ public void callSignChangeEvent(C12PacketUpdateSign packetIn, CallbackInfo ci, W
         worldserver.markBlockForUpdate(blockpos);
     }
 
+    @Inject(method = "processTabComplete", at = @At(value = "INVOKE", shift = At.Shift.AFTER,
+            target = "net/minecraft/network/PacketThreadUtil.checkThreadAndEnqueue(Lnet/minecraft/network/Packet;"
+                    + "Lnet/minecraft/network/INetHandler;Lnet/minecraft/util/IThreadListener;)V"), cancellable = true)
+    public void onProcessTabComplete(C14PacketTabComplete packetIn, CallbackInfo ci) {
+        if (AsyncTabCompleter.complete(this.playerEntity, packetIn.getMessage())) {
+            ci.cancel();
+        }
+    }
+
     /**
      * @author zml
      *
@@ -0,0 +1,68 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.network.play.server;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.network.play.server.S45PacketTitle;
+import net.minecraft.util.IChatComponent;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import java.io.IOException;
+
+import javax.annotation.Nullable;
+
+@Mixin(S45PacketTitle.class)
+public abstract class MixinS45PacketTitle {
+
+    @Shadow private S45PacketTitle.Type type;
+    @Shadow private IChatComponent message;
+
+    // Title packets are cached by the title and sent to every receiver, so only serialize the component once
+    @Nullable private volatile ByteBuf encoded;
+
+    @Inject(method = "writePacketData", at = @At("HEAD"), cancellable = true)
+    private void onWritePacketData(PacketBuffer buf, CallbackInfo ci) throws IOException {
+        if (this.type != S45PacketTitle.Type.TITLE && this.type != S45PacketTitle.Type.SUBTITLE) {
+            return;
+        }
+        ByteBuf encoded = this.encoded;
+        if (encoded == null) {
+            final PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+            buffer.writeEnumValue(this.type);
+            buffer.writeChatComponent(this.message);
+            this.encoded = encoded = buffer;
+        }
+        // Absolute reads, the indices of the shared buffer are never changed
+        buf.writeBytes(encoded, 0, encoded.writerIndex());
+        ci.cancel();
+    }
+
+}
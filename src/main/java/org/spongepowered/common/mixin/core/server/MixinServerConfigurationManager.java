@@ -509,6 +509,32 @@ private void onPlayerLogOut(EntityPlayerMP player, CallbackInfo ci) {
         ((SpongeUser) ((IMixinEntityPlayerMP) player).getUserObject()).readFromNbt(nbt);
     }
 
+    /**
+     * Only scans the players of the target world instead of every online
+     * player, as sounds, particles and effects are sent through here for
+     * every single packet.
+     */
+    @Inject(method = "sendToAllNearExcept", at = @At("HEAD"), cancellable = true)
+    private void onSendToAllNearExcept(@Nullable EntityPlayer except, double x, double y, double z, double radius, int dimension,
+            Packet<?> packet, CallbackInfo ci) {
+        WorldServer world = DimensionManager.getWorldFromDimId(dimension);
+        if (world == null) {
+            return;
+        }
+        double radiusSquared = radius * radius;
+        for (EntityPlayer player : world.playerEntities) {
+            if (player != except && player instanceof EntityPlayerMP) {
+                double dx = x - player.posX;
+                double dy = y - player.posY;
+                double dz = z - player.posZ;
+                if (dx * dx + dy * dy + dz * dz < radiusSquared) {
+                    ((EntityPlayerMP) player).playerNetServerHandler.sendPacket(packet);
+                }
+            }
+        }
+        ci.cancel();
+    }
+
     @Inject(method = "saveAllPlayerData()V", at = @At("RETURN"))
     private void onSaveAllPlayerData(CallbackInfo ci) {
         for (SpongeUser user : SpongeUser.dirtyUsers) {
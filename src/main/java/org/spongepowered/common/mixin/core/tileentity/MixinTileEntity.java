@@ -27,6 +27,7 @@
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.BlockPos;
@@ -77,6 +78,7 @@ public abstract class MixinTileEntity implements TileEntity, IMixinTileEntity {
     @Shadow protected boolean tileEntityInvalid;
     @Shadow protected net.minecraft.world.World worldObj;
     @Shadow private int blockMetadata;
+    @Shadow protected Block blockType;
     @Shadow protected BlockPos pos;
 
     @Shadow public abstract BlockPos getPos();
@@ -113,6 +115,12 @@ private static void onRegister(Class clazz, String name, CallbackInfo callbackIn
         }
     }
 
+    @Override
+    public void setBlockState(IBlockState state) {
+        this.blockType = state.getBlock();
+        this.blockMetadata = this.blockType.getMetaFromState(state);
+    }
+
     @Override
     public Location<World> getLocation() {
         return new Location<>((World) this.worldObj, VecHelper.toVector(this.getPos()));
@@ -32,7 +32,9 @@
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.base.Predicates;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import net.minecraft.block.ITileEntityProvider;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.EntityHanging;
@@ -61,8 +63,14 @@
 import net.minecraft.world.WorldSettings;
 import net.minecraft.world.biome.BiomeGenBase;
 import net.minecraft.world.biome.WorldChunkManager;
+import net.minecraft.world.biome.WorldChunkManagerHell;
 import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraft.world.gen.ChunkProviderEnd;
+import net.minecraft.world.gen.ChunkProviderFlat;
+import net.minecraft.world.gen.ChunkProviderGenerate;
+import net.minecraft.world.gen.ChunkProviderHell;
 import net.minecraft.world.gen.ChunkProviderServer;
+import net.minecraft.world.gen.structure.MapGenStructure;
 import net.minecraft.world.storage.ISaveHandler;
 import net.minecraft.world.storage.WorldInfo;
 import org.apache.commons.lang3.exception.ExceptionUtils;
@@ -78,7 +86,6 @@
 import org.spongepowered.api.entity.EntitySnapshot;
 import org.spongepowered.api.entity.EntityType;
 import org.spongepowered.api.entity.living.player.Player;
-import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.entity.projectile.EnderPearl;
 import org.spongepowered.api.entity.projectile.source.ProjectileSource;
 import org.spongepowered.api.event.SpongeEventFactory;
@@ -94,7 +101,6 @@
 import org.spongepowered.api.text.chat.ChatType;
 import org.spongepowered.api.text.title.Title;
 import org.spongepowered.api.util.DiscreteTransform3;
-import org.spongepowered.api.util.Functional;
 import org.spongepowered.api.util.PositionOutOfBoundsException;
 import org.spongepowered.api.util.annotation.NonnullByDefault;
 import org.spongepowered.api.world.Chunk;
@@ -109,6 +115,7 @@
 import org.spongepowered.api.world.extent.Extent;
 import org.spongepowered.api.world.extent.worker.MutableBiomeAreaWorker;
 import org.spongepowered.api.world.extent.worker.MutableBlockVolumeWorker;
+import org.spongepowered.api.world.gen.BiomeGenerator;
 import org.spongepowered.api.world.gen.WorldGenerator;
 import org.spongepowered.api.world.gen.WorldGeneratorModifier;
 import org.spongepowered.api.world.storage.WorldProperties;
@@ -146,6 +153,7 @@
 import org.spongepowered.common.world.gen.SpongeChunkProvider;
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
 import org.spongepowered.common.world.gen.WorldGenConstants;
+import org.spongepowered.common.world.storage.BlockTrackerStore;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 
 import java.util.ArrayList;
@@ -155,6 +163,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -165,6 +174,9 @@
 @Mixin(net.minecraft.world.World.class)
 public abstract class MixinWorld implements World, IMixinWorld {
 
+    private static final Set<Class<?>> THREAD_SAFE_BASE_GENERATORS =
+            ImmutableSet.of(ChunkProviderGenerate.class, ChunkProviderFlat.class, ChunkProviderHell.class, ChunkProviderEnd.class);
+    private static final Set<Class<?>> THREAD_SAFE_BIOME_GENERATORS = ImmutableSet.of(WorldChunkManager.class, WorldChunkManagerHell.class);
     private static final Vector3i BLOCK_MIN = new Vector3i(-30000000, 0, -30000000);
     private static final Vector3i BLOCK_MAX = new Vector3i(30000000, 256, 30000000).sub(1, 1, 1);
     private static final Vector3i BLOCK_SIZE = BLOCK_MAX.sub(BLOCK_MIN).add(1, 1, 1);
@@ -181,6 +193,8 @@ public abstract class MixinWorld implements World, IMixinWorld {
     private boolean keepSpawnLoaded;
     private Context worldContext;
     private SpongeChunkProvider spongegen;
+    // WorldServer maintains its own entitiesByUuid map, this is only populated for client worlds
+    private final Map<UUID, net.minecraft.entity.Entity> entitiesByUniqueId = Maps.newHashMap();
 
     // @formatter:off
     @Shadow @Final public boolean isRemote;
@@ -226,8 +240,18 @@ public void onConstructed(ISaveHandler saveHandlerIn, WorldInfo info, WorldProvi
         }
     }
 
+    @Inject(method = "onEntityAdded", at = @At(value = "HEAD"))
+    public void onEntityAddedIndex(net.minecraft.entity.Entity entityIn, CallbackInfo ci) {
+        if (this.isRemote) {
+            this.entitiesByUniqueId.put(entityIn.getUniqueID(), entityIn);
+        }
+    }
+
     @Inject(method = "onEntityRemoved", at = @At(value = "HEAD"))
     public void onEntityRemoval(net.minecraft.entity.Entity entityIn, CallbackInfo ci) {
+        if (this.isRemote) {
+            this.entitiesByUniqueId.remove(entityIn.getUniqueID());
+        }
         if (entityIn.isDead && entityIn.getEntityId() != StaticMixinHelper.lastDestroyedEntityId && !(entityIn instanceof EntityLivingBase)) {
             MessageChannel originalChannel = MessageChannel.TO_NONE;
 
@@ -261,16 +285,13 @@ public SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockSt
         if (state.getBlock() instanceof ITileEntityProvider) {
             net.minecraft.tileentity.TileEntity te = getTileEntity(pos);
             if (te != null) {
-                TileEntity tile = (TileEntity) te;
-                for (DataManipulator<?, ?> manipulator : tile.getContainers()) {
-                    this.builder.add(manipulator);
-                }
+                // The data manipulators are created from the compound when the snapshot is inspected
                 NBTTagCompound nbt = new NBTTagCompound();
                 te.writeToNBT(nbt);
                 this.builder.unsafeNbt(nbt);
             }
         }
-        return new SpongeBlockSnapshot(this.builder, updateFlag);
+        return new SpongeBlockSnapshot(this.builder, updateFlag, true);
     }
 
     @SuppressWarnings("rawtypes")
@@ -361,12 +382,15 @@ public Collection<Entity> getEntities() {
         return Lists.newArrayList((Collection<Entity>) (Object) this.loadedEntityList);
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public Collection<Entity> getEntities(Predicate<Entity> filter) {
-        // This already returns a new copy
-        return (Collection<Entity>) (Object) this.getEntities(net.minecraft.entity.Entity.class,
-                Functional.java8ToGuava((Predicate<net.minecraft.entity.Entity>) (Object) filter));
+        List<Entity> entities = new ArrayList<>();
+        for (net.minecraft.entity.Entity entity : this.loadedEntityList) {
+            if (filter.test((Entity) entity)) {
+                entities.add((Entity) entity);
+            }
+        }
+        return entities;
     }
 
     @Override
@@ -495,12 +519,35 @@ public SpongeConfig<SpongeConfig.WorldConfig> getWorldConfig() {
     @Override
     public Optional<Entity> getEntity(UUID uuid) {
         // Note that MixinWorldServer is properly overriding this to use it's own mapping.
+        net.minecraft.entity.Entity entity = this.entitiesByUniqueId.get(uuid);
+        // Client worlds have no config of their own, don't look one up on every call
+        if (!this.isRemote && SpongeHooks.getActiveConfig((net.minecraft.world.World) (Object) this).getConfig().getDebug().checkEntityUniqueIdIndex()) {
+            verifyEntityUniqueIdIndex(uuid, entity);
+        }
+        return Optional.ofNullable((Entity) entity);
+    }
+
+    /**
+     * Compares the result of an indexed entity lookup against a scan of the
+     * loaded entity list, logging any mismatch. Only used when the
+     * {@link SpongeConfig#DEBUG_CHECK_ENTITY_UNIQUE_ID_INDEX} debug option is
+     * enabled, as this is as slow as the scan the index replaces.
+     *
+     * @param uuid The unique id that was looked up
+     * @param indexed The entity found through the index, if any
+     */
+    protected void verifyEntityUniqueIdIndex(UUID uuid, @Nullable net.minecraft.entity.Entity indexed) {
+        net.minecraft.entity.Entity scanned = null;
         for (net.minecraft.entity.Entity entity : this.loadedEntityList) {
             if (entity.getUniqueID().equals(uuid)) {
-                return Optional.of((Entity) entity);
+                scanned = entity;
+                break;
             }
         }
-        return Optional.empty();
+        if (scanned != indexed) {
+            SpongeImpl.getLogger().warn("Entity unique id index mismatch in world {} for {}: index returned {}, loaded entity list contains {}",
+                    this.worldInfo.getWorldName(), uuid, indexed, scanned);
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -534,7 +581,18 @@ public WorldCreationSettings getCreationSettings() {
 
     @Override
     public void updateWorldGenerator() {
+        SpongeWorldGenerator newGenerator = createWorldGenerator();
 
+        this.spongegen = createChunkProvider(newGenerator);
+        this.spongegen.setGenerationPopulators(newGenerator.getGenerationPopulators());
+        this.spongegen.setPopulators(newGenerator.getPopulators());
+        this.spongegen.setBiomeOverrides(newGenerator.getBiomeSettings());
+
+        ChunkProviderServer chunkProviderServer = (ChunkProviderServer) this.getChunkProvider();
+        chunkProviderServer.serverChunkGenerator = this.spongegen;
+    }
+
+    private SpongeWorldGenerator createWorldGenerator() {
         IMixinWorldType worldType = (IMixinWorldType) this.getProperties().getGeneratorType();
         // Get the default generator for the world type
         DataContainer generatorSettings = this.getProperties().getGeneratorSettings();
@@ -560,14 +618,37 @@ public void updateWorldGenerator() {
         for (WorldGeneratorModifier modifier : this.getProperties().getGeneratorModifiers()) {
             modifier.modifyWorldGenerator(creationSettings, generatorSettings, newGenerator);
         }
+        return newGenerator;
+    }
 
-        this.spongegen = createChunkProvider(newGenerator);
-        this.spongegen.setGenerationPopulators(newGenerator.getGenerationPopulators());
-        this.spongegen.setPopulators(newGenerator.getPopulators());
-        this.spongegen.setBiomeOverrides(newGenerator.getBiomeSettings());
-
-        ChunkProviderServer chunkProviderServer = (ChunkProviderServer) this.getChunkProvider();
-        chunkProviderServer.serverChunkGenerator = this.spongegen;
+    @Override
+    public Optional<SpongeChunkProvider> createBaseChunkGenerator() {
+        // Plugin generators may not be safe to use off the main thread, so only vanilla generators are copied
+        if (this.spongegen == null || !this.getProperties().getGeneratorModifiers().isEmpty()
+                || !THREAD_SAFE_BASE_GENERATORS.contains(this.spongegen.getBaseGenerationPopulator().getClass())
+                || !THREAD_SAFE_BIOME_GENERATORS.contains(this.spongegen.getBiomeGenerator().getClass())) {
+            return Optional.empty();
+        }
+        // Creating a generator replaces the chunk manager of the world provider, the world keeps using its own
+        final WorldChunkManager chunkManager = this.provider.worldChunkMgr;
+        try {
+            final SpongeWorldGenerator newGenerator = createWorldGenerator();
+            BiomeGenerator biomeGenerator = newGenerator.getBiomeGenerator();
+            if (biomeGenerator.getClass() == WorldChunkManager.class) {
+                // The biome layers keep state while generating, so they can't be shared between threads
+                biomeGenerator = (BiomeGenerator) new WorldChunkManager((net.minecraft.world.World) (Object) this);
+            }
+            final SpongeChunkProvider generator = new SpongeChunkProvider((net.minecraft.world.World) (Object) this,
+                    newGenerator.getBaseGenerationPopulator(), biomeGenerator);
+            // Structure starts are recorded by the world generator once the chunk is loaded, its populators place them
+            generator.setGenerationPopulators(newGenerator.getGenerationPopulators().stream()
+                    .filter(populator -> !(populator instanceof MapGenStructure))
+                    .collect(Collectors.toList()));
+            generator.setBiomeOverrides(newGenerator.getBiomeSettings());
+            return Optional.of(generator);
+        } finally {
+            this.provider.worldChunkMgr = chunkManager;
+        }
     }
 
     @Override
@@ -807,24 +888,22 @@ public boolean restoreSnapshot(int x, int y, int z, BlockSnapshot snapshot, bool
     public Optional<UUID> getCreator(int x, int y, int z) {
         BlockPos pos = new BlockPos(x, y, z);
         IMixinChunk spongeChunk = (IMixinChunk) getChunkFromBlockCoords(pos);
-        Optional<User> user = spongeChunk.getBlockOwner(pos);
-        if (user.isPresent()) {
-            return Optional.of(user.get().getUniqueId());
-        } else {
-            return Optional.empty();
-        }
+        return getUniqueIdForIndex(spongeChunk.getTrackedBlockStore().getOwnerIndex(x, y, z));
     }
 
     @Override
     public Optional<UUID> getNotifier(int x, int y, int z) {
         BlockPos pos = new BlockPos(x, y, z);
         IMixinChunk spongeChunk = (IMixinChunk) getChunkFromBlockCoords(pos);
-        Optional<User> user = spongeChunk.getBlockNotifier(pos);
-        if (user.isPresent()) {
-            return Optional.of(user.get().getUniqueId());
-        } else {
+        return getUniqueIdForIndex(spongeChunk.getTrackedBlockStore().getNotifierIndex(x, y, z));
+    }
+
+    // Maps the index directly, resolving the user first would look up its profile just to get the id back
+    private Optional<UUID> getUniqueIdForIndex(int index) {
+        if (index == BlockTrackerStore.NO_INDEX) {
             return Optional.empty();
         }
+        return ((IMixinWorldInfo) this.worldInfo).getUniqueIdForIndex(index);
     }
 
     @Override
@@ -25,6 +25,7 @@
 package org.spongepowered.common.mixin.core.world;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockEventData;
@@ -70,8 +71,14 @@
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.StaticMixinHelper;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.PendingTickSet;
+import org.spongepowered.common.world.storage.BlockTrackerStore;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
@@ -85,15 +92,23 @@
 @Mixin(WorldServer.class)
 public abstract class MixinWorldServer extends MixinWorld {
 
-    private Map<BlockPos, User> trackedBlockEvents = Maps.newHashMap();
+    // World user indices of the notifiers of queued block events
+    private Map<BlockPos, Integer> trackedBlockEvents = Maps.newHashMap();
 
     @Shadow @Final private Set<NextTickListEntry> pendingTickListEntriesHashSet;
     @Shadow @Final private TreeSet<NextTickListEntry> pendingTickListEntriesTreeSet;
+    @Shadow private List<NextTickListEntry> pendingTickListEntriesThisTick;
 
     @Shadow public abstract void updateBlockTick(BlockPos p_175654_1_, Block p_175654_2_, int p_175654_3_, int p_175654_4_);
     @Shadow public abstract boolean fireBlockEvent(BlockEventData event);
     @Shadow @Nullable public abstract net.minecraft.entity.Entity getEntityFromUuid(UUID uuid);
 
+    @Redirect(method = "<init>", at = @At(value = "INVOKE", target = "Lcom/google/common/collect/Sets;newHashSet()Ljava/util/HashSet;", ordinal = 0,
+            remap = false))
+    private HashSet<NextTickListEntry> onCreatePendingTickSet() {
+        return new PendingTickSet();
+    }
+
     @Inject(method = "createSpawnPosition(Lnet/minecraft/world/WorldSettings;)V", at = @At("HEAD"), cancellable = true)
     public void onCreateSpawnPosition(WorldSettings settings, CallbackInfo ci) {
         GeneratorType generatorType = (GeneratorType) settings.getTerrainType();
@@ -168,9 +183,7 @@ public void onAddBlockEvent(BlockPos pos, Block blockIn, int eventID, int eventP
             // Add player to block event position
             if (isBlockLoaded(pos)) {
                 IMixinChunk spongeChunk = (IMixinChunk) getChunkFromBlockCoords(pos);
-                Optional<User> owner = spongeChunk.getBlockOwner(pos);
-                Optional<User> notifier = spongeChunk.getBlockNotifier(pos);
-                userTracking(blockIn, pos, notifier, owner, spongeChunk);
+                userTracking(blockIn, pos, pos, spongeChunk, spongeChunk);
             }
         } else {
             BlockPos sourcePos = null;
@@ -179,22 +192,24 @@ public void onAddBlockEvent(BlockPos pos, Block blockIn, int eventID, int eventP
             } else if (causeTracker.hasTickingTileEntity()) {
                 sourcePos = ((net.minecraft.tileentity.TileEntity) causeTracker.getCurrentTickTileEntity().get()).getPos();
             }
-            if (sourcePos != null && isBlockLoaded(sourcePos)) {
-                IMixinChunk spongeChunk = (IMixinChunk) getChunkFromBlockCoords(sourcePos);
-                Optional<User> owner = spongeChunk.getBlockOwner(sourcePos);
-                Optional<User> notifier = spongeChunk.getBlockNotifier(sourcePos);
-                userTracking(blockIn, pos, notifier, owner, spongeChunk);
+            if (sourcePos != null && isBlockLoaded(sourcePos) && isBlockLoaded(pos)) {
+                IMixinChunk sourceChunk = (IMixinChunk) getChunkFromBlockCoords(sourcePos);
+                IMixinChunk spongeChunk = (IMixinChunk) getChunkFromBlockCoords(pos);
+                userTracking(blockIn, pos, sourcePos, sourceChunk, spongeChunk);
             }
         }
     }
 
-    private void userTracking(Block block, BlockPos pos, Optional<User> notifier, Optional<User> owner, IMixinChunk spongeChunk) {
-        if (notifier.isPresent()) {
-            spongeChunk.addTrackedBlockPosition(block, pos, notifier.get(), PlayerTracker.Type.NOTIFIER);
-            this.trackedBlockEvents.put(pos, notifier.get());
-        } else if (owner.isPresent()) {
-            spongeChunk.addTrackedBlockPosition(block, pos, owner.get(), PlayerTracker.Type.NOTIFIER);
-            this.trackedBlockEvents.put(pos, owner.get());
+    private void userTracking(Block block, BlockPos pos, BlockPos sourcePos, IMixinChunk sourceChunk, IMixinChunk spongeChunk) {
+        // The index is read from the source's chunk but recorded in the chunk of the event's position
+        BlockTrackerStore store = sourceChunk.getTrackedBlockStore();
+        int index = store.getNotifierIndex(sourcePos.getX(), sourcePos.getY(), sourcePos.getZ());
+        if (index == BlockTrackerStore.NO_INDEX) {
+            index = store.getOwnerIndex(sourcePos.getX(), sourcePos.getY(), sourcePos.getZ());
+        }
+        if (index != BlockTrackerStore.NO_INDEX) {
+            spongeChunk.addTrackedBlockPosition(block, pos, index, PlayerTracker.Type.NOTIFIER);
+            this.trackedBlockEvents.put(pos, index);
         }
     }
 
@@ -210,10 +225,14 @@ public boolean onFireBlockEvent(net.minecraft.world.WorldServer worldIn, BlockEv
         causeTracker.setProcessingCaptureCause(true);
         causeTracker.setCurrentTickBlock(createSpongeBlockSnapshot(currentState, currentState.getBlock().getActualState(currentState, (IBlockAccess) this, event.getPosition()), event.getPosition(), 3));
         Cause cause = Cause.of(NamedCause.source(causeTracker.getCurrentTickBlock().get()));
-        if (this.trackedBlockEvents.get(event.getPosition()) != null) {
-            User user = this.trackedBlockEvents.get(event.getPosition());
-            cause = cause.with(NamedCause.notifier(user));
-            StaticMixinHelper.blockEventUser = user;
+        Integer notifierIndex = this.trackedBlockEvents.get(event.getPosition());
+        if (notifierIndex != null) {
+            // The user is only resolved once the event actually fires
+            Optional<User> user = SpongeHooks.getUserForIndex((World) (Object) this, notifierIndex);
+            if (user.isPresent()) {
+                cause = cause.with(NamedCause.notifier(user.get()));
+                StaticMixinHelper.blockEventUser = user.get();
+            }
         }
         boolean result = fireBlockEvent(event);
         causeTracker.handlePostTickCaptures(cause);
@@ -224,16 +243,72 @@ public boolean onFireBlockEvent(net.minecraft.world.WorldServer worldIn, BlockEv
         return result;
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public Collection<ScheduledBlockUpdate> getScheduledUpdates(int x, int y, int z) {
         BlockPos position = new BlockPos(x, y, z);
-        ImmutableList.Builder<ScheduledBlockUpdate> builder = ImmutableList.builder();
-        for (NextTickListEntry sbu : this.pendingTickListEntriesTreeSet) {
-            if (sbu.position.equals(position)) {
-                builder.add((ScheduledBlockUpdate) sbu);
+        return ImmutableList.copyOf((Collection<ScheduledBlockUpdate>) (Object) getPendingTicks().getEntries(position));
+    }
+
+    /**
+     * Purpose: Look up the pending ticks of a chunk being saved through the
+     * chunk index instead of walking every pending tick of the world. Like
+     * Vanilla, ticks up to two blocks beyond the chunk's lower x and z edges
+     * are included.
+     */
+    @Inject(method = "getPendingBlockUpdates", at = @At("HEAD"), cancellable = true)
+    public void onGetPendingBlockUpdates(net.minecraft.world.chunk.Chunk chunk, boolean remove,
+            CallbackInfoReturnable<List<NextTickListEntry>> cir) {
+        final int minX = (chunk.xPosition << 4) - 2;
+        final int minZ = (chunk.zPosition << 4) - 2;
+        final int maxX = (chunk.xPosition << 4) + 16;
+        final int maxZ = (chunk.zPosition << 4) + 16;
+        List<NextTickListEntry> entries = null;
+        for (int chunkX = chunk.xPosition - 1; chunkX <= chunk.xPosition; chunkX++) {
+            for (int chunkZ = chunk.zPosition - 1; chunkZ <= chunk.zPosition; chunkZ++) {
+                for (NextTickListEntry entry : getPendingTicks().getEntriesInChunk(chunkX, chunkZ)) {
+                    if (isWithin(entry.position, minX, minZ, maxX, maxZ)) {
+                        if (entries == null) {
+                            entries = Lists.newArrayList();
+                        }
+                        entries.add(entry);
+                    }
+                }
+            }
+        }
+        if (entries != null) {
+            // Keep the tick order Vanilla saves in
+            Collections.sort(entries);
+            if (remove) {
+                for (NextTickListEntry entry : entries) {
+                    this.pendingTickListEntriesHashSet.remove(entry);
+                    this.pendingTickListEntriesTreeSet.remove(entry);
+                }
+            }
+        }
+        // Ticks currently being processed have already left the pending sets
+        for (Iterator<NextTickListEntry> iterator = this.pendingTickListEntriesThisTick.iterator(); iterator.hasNext(); ) {
+            NextTickListEntry entry = iterator.next();
+            if (isWithin(entry.position, minX, minZ, maxX, maxZ)) {
+                if (remove) {
+                    this.pendingTickListEntriesHashSet.remove(entry);
+                    iterator.remove();
+                }
+                if (entries == null) {
+                    entries = Lists.newArrayList();
+                }
+                entries.add(entry);
             }
         }
-        return builder.build();
+        cir.setReturnValue(entries);
+    }
+
+    private static boolean isWithin(BlockPos pos, int minX, int minZ, int maxX, int maxZ) {
+        return pos.getX() >= minX && pos.getX() < maxX && pos.getZ() >= minZ && pos.getZ() < maxZ;
+    }
+
+    private PendingTickSet getPendingTicks() {
+        return (PendingTickSet) this.pendingTickListEntriesHashSet;
     }
 
     private NextTickListEntry tmpScheduledObj;
@@ -314,7 +389,11 @@ public boolean isSpectatorAndNotIgnored(EntityPlayer entityPlayer) {
 
     @Override
     public Optional<Entity> getEntity(UUID uuid) {
-        return Optional.ofNullable((Entity) this.getEntityFromUuid(uuid));
+        net.minecraft.entity.Entity entity = this.getEntityFromUuid(uuid);
+        if (SpongeHooks.getActiveConfig((net.minecraft.world.World) (Object) this).getConfig().getDebug().checkEntityUniqueIdIndex()) {
+            verifyEntityUniqueIdIndex(uuid, entity);
+        }
+        return Optional.ofNullable((Entity) entity);
     }
 
     @Inject(method = "getSpawnListEntryForTypeAt", at = @At("HEAD"))
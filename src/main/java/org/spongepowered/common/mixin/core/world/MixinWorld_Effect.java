@@ -28,10 +28,11 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.flowpowered.math.vector.Vector3d;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.network.NetHandlerPlayServer;
 import net.minecraft.network.Packet;
 import net.minecraft.profiler.Profiler;
-import net.minecraft.server.MinecraftServer;
-import net.minecraft.server.management.ServerConfigurationManager;
 import net.minecraft.world.WorldProvider;
 import net.minecraft.world.storage.ISaveHandler;
 import net.minecraft.world.storage.WorldInfo;
@@ -66,6 +67,7 @@ public abstract class MixinWorld_Effect implements World, IMixinWorld {
 
     @Shadow @Final public Random rand;
     @Shadow @Final public WorldProvider provider;
+    @Shadow @Final public List<EntityPlayer> playerEntities;
     @Shadow protected WorldInfo worldInfo;
 
     @Shadow public abstract void playSoundEffect(double x, double y, double z, String soundName, float volume, float pitch);
@@ -106,14 +108,28 @@ public void spawnParticles(ParticleEffect particleEffect, Vector3d position, int
         List<Packet<?>> packets = SpongeParticleHelper.toPackets((SpongeParticleEffect) particleEffect, position);
 
         if (!packets.isEmpty()) {
-            ServerConfigurationManager manager = MinecraftServer.getServer().getConfigurationManager();
-
             double x = position.getX();
             double y = position.getY();
             double z = position.getZ();
-
-            for (Packet<?> packet : packets) {
-                manager.sendToAllNear(x, y, z, radius, this.provider.getDimensionId(), packet);
+            double radiusSquared = (double) radius * radius;
+
+            // Only the players of this world can be in range, find them once for all of the packets
+            for (EntityPlayer player : this.playerEntities) {
+                if (!(player instanceof EntityPlayerMP)) {
+                    continue;
+                }
+                if (radius != Integer.MAX_VALUE) {
+                    double dx = x - player.posX;
+                    double dy = y - player.posY;
+                    double dz = z - player.posZ;
+                    if (dx * dx + dy * dy + dz * dz >= radiusSquared) {
+                        continue;
+                    }
+                }
+                NetHandlerPlayServer netHandler = ((EntityPlayerMP) player).playerNetServerHandler;
+                for (Packet<?> packet : packets) {
+                    netHandler.sendPacket(packet);
+                }
             }
         }
     }
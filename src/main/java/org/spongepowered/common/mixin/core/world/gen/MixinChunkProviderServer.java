@@ -24,6 +24,8 @@
  */
 package org.spongepowered.common.mixin.core.world.gen;
 
+import net.minecraft.util.LongHashMap;
+import net.minecraft.world.ChunkCoordIntPair;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.IChunkProvider;
@@ -33,11 +35,19 @@
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.common.interfaces.world.IMixinWorld;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+
+import java.util.List;
+import java.util.Set;
 
 @Mixin(ChunkProviderServer.class)
-public abstract class MixinChunkProviderServer {
+public abstract class MixinChunkProviderServer implements IChunkProvider, IMixinChunkProviderServer {
 
     @Shadow public WorldServer worldObj;
+    @Shadow public IChunkProvider serverChunkGenerator;
+    @Shadow public List<Chunk> loadedChunks;
+    @Shadow private Set<Long> droppedChunksSet;
+    @Shadow private LongHashMap<Chunk> id2ChunkMap;
     @Shadow public abstract Chunk provideChunk(int x, int z);
 
     @Redirect(method = "populate", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/chunk/IChunkProvider;populate(Lnet/minecraft/world/chunk/IChunkProvider;II)V"))
@@ -49,4 +59,22 @@ public void onChunkPopulate(IChunkProvider serverChunkGenerator, IChunkProvider
         world.getCauseTracker().setCapturingTerrainGen(false);
         world.getCauseTracker().setProcessingCaptureCause(false);
     }
+
+    @Override
+    public Chunk loadGeneratedChunk(Chunk chunk) {
+        final long key = ChunkCoordIntPair.chunkXZ2Int(chunk.xPosition, chunk.zPosition);
+        this.droppedChunksSet.remove(key);
+        final Chunk loaded = this.id2ChunkMap.getValueByKey(key);
+        if (loaded != null) {
+            return loaded;
+        }
+        // Mirrors loadChunk, the structures are recreated because the chunk
+        // wasn't generated by our own chunk generator
+        this.serverChunkGenerator.recreateStructures(chunk, chunk.xPosition, chunk.zPosition);
+        this.id2ChunkMap.add(key, chunk);
+        this.loadedChunks.add(chunk);
+        chunk.onChunkLoad();
+        chunk.populateChunk(this, this, chunk.xPosition, chunk.zPosition);
+        return chunk;
+    }
 }
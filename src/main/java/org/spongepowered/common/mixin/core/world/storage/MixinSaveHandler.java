@@ -43,6 +43,7 @@
 import org.spongepowered.common.data.util.NbtDataUtil;
 import org.spongepowered.common.interfaces.IMixinSaveHandler;
 import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
+import org.spongepowered.common.service.user.SpongeUserStorageService;
 import org.spongepowered.common.util.StaticMixinHelper;
 import org.spongepowered.common.world.DimensionManager;
 import org.spongepowered.common.world.storage.SpongePlayerDataHandler;
@@ -237,6 +238,7 @@ private NBTTagCompound spongeReadPlayerData(InputStream inputStream) throws IOEx
     @Inject(method = "writePlayerData", at = @At(value = "INVOKE", target = COMPRESSED_WRITE_FILE, shift = At.Shift.AFTER))
     private void onSpongeWrite(EntityPlayer player, CallbackInfo callbackInfo) {
         SpongePlayerDataHandler.savePlayer(player.getUniqueID());
+        SpongeUserStorageService.onPlayerDataWritten(((SaveHandler) (Object) this).playersDirectory, player.getUniqueID());
     }
 
 }
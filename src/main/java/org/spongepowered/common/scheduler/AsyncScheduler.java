@@ -24,27 +24,28 @@
  */
 package org.spongepowered.common.scheduler;
 
-import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.common.SpongeImpl;
 
-import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 public class AsyncScheduler extends SchedulerBase {
 
-    // Adjustable timeout for pending Tasks
-    private long minimumTimeout = Long.MAX_VALUE;
-    private long lastProcessingTimestamp;
+    // Pending tasks ordered by the time they are next due, the head is always
+    // the next task to run so the scheduler thread only has to look at it.
+    private final PriorityQueue<ScheduledTask> pendingTasks =
+            new PriorityQueue<>(Comparator.comparingLong(ScheduledTask::getQueuedExecutionTimestamp));
     // Locking mechanism
     private final Lock lock = new ReentrantLock();
     private final Condition condition = this.lock.newCondition();
-    // The dynamic thread pooling executor of asynchronous tasks.
-    private final ExecutorService executor = Executors.newCachedThreadPool();
+    // The bounded, per plugin fair executor of asynchronous tasks.
+    private final AsyncTaskExecutor executor = new AsyncTaskExecutor();
 
     AsyncScheduler() {
         super(ScheduledTask.TaskSynchronicity.ASYNCHRONOUS);
@@ -55,82 +56,126 @@ public class AsyncScheduler extends SchedulerBase {
         thread.start();
     }
 
-    ExecutorService getExecutor() {
+    AsyncTaskExecutor getExecutor() {
         return this.executor;
     }
 
     private void mainLoop() {
-        this.lastProcessingTimestamp = System.nanoTime();
+        final List<ScheduledTask> dueTasks = new ArrayList<>();
         while (true) {
-            recalibrateMinimumTimeout();
-            this.runTick();
+            this.lock.lock();
+            try {
+                pollDueTasks(dueTasks);
+            } catch (InterruptedException ignored) {
+                // Continue on without handling the Exception.
+            } catch (Throwable t) {
+                SpongeImpl.getLogger().error("The scheduler internal state machine suffered a catastrophic error", t);
+            } finally {
+                this.lock.unlock();
+            }
+            // Hand the tasks to the executor without holding the lock, it may
+            // run them on this thread if the owner's queue is full
+            for (ScheduledTask task : dueTasks) {
+                try {
+                    startTask(task);
+                } catch (RejectedExecutionException e) {
+                    if (task.period == 0L) {
+                        // Already removed from the map, don't leave it switching forever
+                        task.setState(ScheduledTask.ScheduledTaskState.CANCELED);
+                    }
+                    SpongeImpl.getLogger().warn("The async task {} owned by {} was rejected: {}", task.getName(), task.getOwner(), e.getMessage());
+                } catch (Throwable t) {
+                    SpongeImpl.getLogger().error("The scheduler internal state machine suffered a catastrophic error", t);
+                }
+            }
+            dueTasks.clear();
         }
     }
 
-    private void recalibrateMinimumTimeout() {
-        this.lock.lock();
-        try {
-            Set<Task> tasks = this.getScheduledTasks();
-            this.minimumTimeout = Long.MAX_VALUE;
-            long now = System.nanoTime();
-            for (Task tmpTask : tasks) {
-                ScheduledTask task = (ScheduledTask) tmpTask;
-                // Recalibrate the wait delay for processing tasks before new
-                // tasks cause the scheduler to process pending tasks.
-                if (task.offset == 0 && task.period == 0) {
-                    this.minimumTimeout = 0;
-                }
-                // The time since the task last executed or was added to the map
-                long timeSinceLast = now - task.getTimestamp();
-
-                if (task.offset > 0 && task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
-                    // There is an offset and the task hasn't run yet
-                    this.minimumTimeout = Math.min(task.offset - timeSinceLast, this.minimumTimeout);
-                }
-                if (task.period > 0 && task.getState().isActive) {
-                    // The task repeats and has run after the initial delay
-                    this.minimumTimeout = Math.min(task.period - timeSinceLast, this.minimumTimeout);
+    /**
+     * Waits until at least one task is due and moves all due tasks into the
+     * given list. One shot tasks are removed from the task map and repeating
+     * tasks are queued again for their next run. Must be called while holding
+     * the lock.
+     *
+     * @param dueTasks The list to add the due tasks to
+     * @throws InterruptedException If interrupted while waiting
+     */
+    private void pollDueTasks(List<ScheduledTask> dueTasks) throws InterruptedException {
+        while (true) {
+            ScheduledTask task = this.pendingTasks.peek();
+            if (task == null) {
+                if (!dueTasks.isEmpty()) {
+                    return;
                 }
-                if (this.minimumTimeout <= 0) {
-                    break;
+                this.condition.await();
+                continue;
+            }
+            // If the task is now slated to be cancelled, we just remove it
+            // as if it no longer exists.
+            if (task.getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
+                this.pendingTasks.poll();
+                this.removeTask(task);
+                continue;
+            }
+            long now = this.getTimestamp(task);
+            long remaining = task.getQueuedExecutionTimestamp() - now;
+            if (remaining > 0) {
+                if (!dueTasks.isEmpty()) {
+                    return;
                 }
+                // Woken up early if a task is added that is due sooner
+                this.condition.awaitNanos(remaining);
+                continue;
             }
-            if (!tasks.isEmpty()) {
-                long latency = System.nanoTime() - this.lastProcessingTimestamp;
-                this.minimumTimeout -= (latency <= 0) ? 0 : latency;
-                this.minimumTimeout = (this.minimumTimeout < 0) ? 0 : this.minimumTimeout;
+            if (dueTasks.contains(task)) {
+                // A repeating task with a very short period is due again, start it on the next pass
+                return;
             }
-        } finally {
-            this.lock.unlock();
+            this.pendingTasks.poll();
+            task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
+            task.setTimestamp(now);
+            if (task.period == 0L) {
+                // If task is one time shot, remove it from the map.
+                this.removeTask(task);
+            } else {
+                this.enqueue(task);
+            }
+            dueTasks.add(task);
         }
     }
 
-    @Override
-    protected void preTick() {
-        this.lock.lock();
-        try {
-            this.condition.await(this.minimumTimeout, TimeUnit.NANOSECONDS);
-        } catch (InterruptedException ignored) {
-            // The taskMap has been modified; there is work to do.
-            // Continue on without handling the Exception.
-        } catch (IllegalMonitorStateException e) {
-            SpongeImpl.getLogger().error("The scheduler internal state machine suffered a catastrophic error", e);
+    /**
+     * Queues the task to be run once it is next due. Must be called while
+     * holding the lock.
+     *
+     * @param task The task to queue
+     */
+    private void enqueue(ScheduledTask task) {
+        task.setQueuedExecutionTimestamp(task.nextExecutionTimestamp());
+        this.pendingTasks.add(task);
+        if (this.pendingTasks.peek() == task) {
+            // The new task is due before the one the scheduler is waiting on
+            this.condition.signal();
         }
     }
 
     @Override
-    protected void postTick() {
-        this.lastProcessingTimestamp = System.nanoTime();
-    }
-
-    @Override
-    protected void finallyPostTick() {
-        this.lock.unlock();
+    protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
+        this.executor.execute(task.getOwner(), runnable);
     }
 
     @Override
-    protected void executeTaskRunnable(Runnable runnable) {
-        this.executor.submit(runnable);
+    protected void onCancel(ScheduledTask task) {
+        // The task may not be due for a long time, so don't wait for it to
+        // reach the head of the queue before forgetting about it
+        this.lock.lock();
+        try {
+            this.pendingTasks.remove(task);
+            this.removeTask(task);
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     @Override
@@ -138,7 +183,7 @@ protected void addTask(ScheduledTask task) {
         this.lock.lock();
         try {
             super.addTask(task);
-            this.condition.signalAll();
+            this.enqueue(task);
         } finally {
             this.lock.unlock();
         }
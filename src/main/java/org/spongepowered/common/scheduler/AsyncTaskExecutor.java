@@ -0,0 +1,386 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.SpongeConfig;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The executor running asynchronous tasks.
+ *
+ * <p>Tasks are queued per owning plugin and worker threads take tasks from
+ * the plugin queues in turn, so a plugin submitting a burst of tasks can't
+ * starve the tasks of other plugins. The number of workers is unbounded by
+ * default, as plugins commonly run tasks which block for a long time, but can
+ * be capped in the config. Idle workers exit after a while. Queue depth, wait
+ * time and run time are recorded per plugin.</p>
+ */
+public final class AsyncTaskExecutor extends AbstractExecutorService {
+
+    public enum RejectionPolicy {
+        /**
+         * Runs the task on the thread which submitted it.
+         */
+        CALLER_RUNS,
+        /**
+         * Throws a {@link RejectedExecutionException}.
+         */
+        ABORT;
+
+        static RejectionPolicy fromConfig(String value) {
+            return "abort".equalsIgnoreCase(value) ? ABORT : CALLER_RUNS;
+        }
+    }
+
+    private static final long WORKER_KEEP_ALIVE_SECONDS = 60;
+    // Wakes up idle workers on shutdown, it never has tasks
+    private static final PluginQueue SHUTDOWN = new PluginQueue(null);
+
+    private final Map<String, PluginQueue> queues = Maps.newConcurrentMap();
+    // Plugin queues with pending tasks, each queue is present at most once
+    private final BlockingQueue<PluginQueue> readyQueues = new LinkedBlockingQueue<>();
+    private final AtomicInteger workerCount = new AtomicInteger();
+    private final AtomicInteger idleWorkerCount = new AtomicInteger();
+    // Tasks waiting in the plugin queues
+    private final AtomicInteger queuedCount = new AtomicInteger();
+    private final Set<Thread> workers = Sets.newConcurrentHashSet();
+    private final Object lifecycleLock = new Object();
+    private volatile boolean configured;
+    private volatile boolean shutdown;
+    private int maxThreads;
+    private int pluginQueueLimit;
+    private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+
+    AsyncTaskExecutor() {
+    }
+
+    private void configure() {
+        synchronized (this.lifecycleLock) {
+            if (this.configured) {
+                return;
+            }
+            SpongeConfig.SchedulerCategory config = SpongeImpl.getGlobalConfig().getConfig().getScheduler();
+            this.maxThreads = config.getAsyncMaxThreads() > 0 ? config.getAsyncMaxThreads() : Integer.MAX_VALUE;
+            this.pluginQueueLimit = Math.max(0, config.getAsyncPluginQueueLimit());
+            this.rejectionPolicy = RejectionPolicy.fromConfig(config.getAsyncRejectionPolicy());
+            this.configured = true;
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        execute(SpongeImpl.getPlugin(), command);
+    }
+
+    /**
+     * Queues the runnable on the queue of the given plugin.
+     *
+     * @param owner The plugin owning the runnable
+     * @param command The runnable to execute
+     * @throws RejectedExecutionException If the executor is shut down, or the
+     *     plugin's queue is full and the rejection policy is
+     *     {@link RejectionPolicy#ABORT}
+     */
+    public void execute(PluginContainer owner, Runnable command) {
+        checkNotNull(owner, "owner");
+        checkNotNull(command, "command");
+        if (this.shutdown) {
+            throw new RejectedExecutionException("The async task executor has been shut down");
+        }
+        if (!this.configured) {
+            configure();
+        }
+        final PluginQueue queue = this.queues.computeIfAbsent(owner.getId(), id -> new PluginQueue(owner));
+        boolean full = false;
+        synchronized (queue) {
+            queue.submitted.incrementAndGet();
+            if (this.pluginQueueLimit > 0 && queue.tasks.size() >= this.pluginQueueLimit) {
+                queue.rejected.incrementAndGet();
+                full = true;
+            } else {
+                queue.tasks.add(new QueuedTask(command, System.nanoTime()));
+                this.queuedCount.incrementAndGet();
+                if (!queue.ready) {
+                    queue.ready = true;
+                    this.readyQueues.add(queue);
+                }
+            }
+        }
+        if (full) {
+            if (this.rejectionPolicy == RejectionPolicy.ABORT) {
+                throw new RejectedExecutionException("Too many queued async tasks for plugin " + owner.getId());
+            }
+            run(queue, command, System.nanoTime());
+            return;
+        }
+        // Idle workers may already be spoken for by other queued tasks
+        if (this.queuedCount.get() > this.idleWorkerCount.get()) {
+            startWorker();
+        }
+    }
+
+    /**
+     * Reserves a slot for a worker if the thread limit allows it.
+     *
+     * @return The number of workers before the reservation, or -1 if the
+     *     limit was reached
+     */
+    private int reserveWorker() {
+        int count;
+        do {
+            count = this.workerCount.get();
+            if (count >= this.maxThreads) {
+                return -1;
+            }
+        } while (!this.workerCount.compareAndSet(count, count + 1));
+        return count;
+    }
+
+    private void startWorker() {
+        final int count = reserveWorker();
+        if (count < 0) {
+            return;
+        }
+        Thread thread = new Thread(this::workerLoop);
+        thread.setName("Sponge Async Worker #" + count);
+        thread.setDaemon(true);
+        this.workers.add(thread);
+        thread.start();
+    }
+
+    private void workerLoop() {
+        try {
+            // After a shutdown the already queued tasks are still completed
+            while (!this.shutdown || this.queuedCount.get() > 0) {
+                final PluginQueue queue;
+                this.idleWorkerCount.incrementAndGet();
+                try {
+                    queue = this.readyQueues.poll(WORKER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    continue;
+                } finally {
+                    this.idleWorkerCount.decrementAndGet();
+                }
+                if (queue == null) {
+                    // Give up the slot first, then make sure no task was queued
+                    // while this worker was still counted as idle
+                    this.workerCount.decrementAndGet();
+                    if (this.queuedCount.get() == 0 || reserveWorker() < 0) {
+                        return;
+                    }
+                    continue;
+                }
+                if (queue == SHUTDOWN) {
+                    continue;
+                }
+                final QueuedTask task;
+                synchronized (queue) {
+                    task = queue.tasks.poll();
+                    if (task != null) {
+                        this.queuedCount.decrementAndGet();
+                    }
+                    if (queue.tasks.isEmpty()) {
+                        queue.ready = false;
+                    } else {
+                        // Go to the back of the line so other plugins get their turn
+                        this.readyQueues.add(queue);
+                    }
+                }
+                if (task != null) {
+                    run(queue, task.runnable, task.queuedAt);
+                }
+            }
+            this.workerCount.decrementAndGet();
+        } finally {
+            this.workers.remove(Thread.currentThread());
+        }
+    }
+
+    private void wakeWorkers() {
+        for (int i = this.workerCount.get(); i > 0; i--) {
+            this.readyQueues.add(SHUTDOWN);
+        }
+    }
+
+    private static void run(PluginQueue queue, Runnable runnable, long queuedAt) {
+        final long start = System.nanoTime();
+        final long wait = start - queuedAt;
+        queue.waitNanos.addAndGet(wait);
+        long maxWait;
+        do {
+            maxWait = queue.maxWaitNanos.get();
+        } while (wait > maxWait && !queue.maxWaitNanos.compareAndSet(maxWait, wait));
+        try {
+            runnable.run();
+        } catch (Throwable t) {
+            SpongeImpl.getLogger().error("An async task owned by {} threw an exception", queue.plugin.getId(), t);
+        } finally {
+            queue.runNanos.addAndGet(System.nanoTime() - start);
+            queue.completed.incrementAndGet();
+        }
+    }
+
+    /**
+     * Gets the statistics of all plugins which submitted async tasks.
+     *
+     * @return The per plugin statistics
+     */
+    public Collection<PluginQueue> getPluginQueues() {
+        return ImmutableList.copyOf(this.queues.values());
+    }
+
+    @Override
+    public void shutdown() {
+        this.shutdown = true;
+        wakeWorkers();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        this.shutdown = true;
+        final List<Runnable> pending = new ArrayList<>();
+        for (PluginQueue queue : this.queues.values()) {
+            synchronized (queue) {
+                for (QueuedTask task : queue.tasks) {
+                    pending.add(task.runnable);
+                }
+                this.queuedCount.addAndGet(-queue.tasks.size());
+                queue.tasks.clear();
+            }
+        }
+        for (Thread worker : this.workers) {
+            worker.interrupt();
+        }
+        wakeWorkers();
+        return pending;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return this.shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return this.shutdown && this.workerCount.get() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!isTerminated()) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    private static final class QueuedTask {
+
+        final Runnable runnable;
+        final long queuedAt;
+
+        QueuedTask(Runnable runnable, long queuedAt) {
+            this.runnable = runnable;
+            this.queuedAt = queuedAt;
+        }
+    }
+
+    /**
+     * The queue and statistics of the async tasks of a single plugin.
+     */
+    public static final class PluginQueue {
+
+        final PluginContainer plugin;
+        final Queue<QueuedTask> tasks = new ArrayDeque<>();
+        boolean ready;
+        final AtomicLong submitted = new AtomicLong();
+        final AtomicLong completed = new AtomicLong();
+        final AtomicLong rejected = new AtomicLong();
+        final AtomicLong waitNanos = new AtomicLong();
+        final AtomicLong maxWaitNanos = new AtomicLong();
+        final AtomicLong runNanos = new AtomicLong();
+
+        PluginQueue(PluginContainer plugin) {
+            this.plugin = plugin;
+        }
+
+        public PluginContainer getPlugin() {
+            return this.plugin;
+        }
+
+        public synchronized int getQueueDepth() {
+            return this.tasks.size();
+        }
+
+        public long getSubmittedCount() {
+            return this.submitted.get();
+        }
+
+        public long getCompletedCount() {
+            return this.completed.get();
+        }
+
+        public long getRejectedCount() {
+            return this.rejected.get();
+        }
+
+        public long getTotalWaitTime(TimeUnit unit) {
+            return unit.convert(this.waitNanos.get(), TimeUnit.NANOSECONDS);
+        }
+
+        public long getMaxWaitTime(TimeUnit unit) {
+            return unit.convert(this.maxWaitNanos.get(), TimeUnit.NANOSECONDS);
+        }
+
+        public long getTotalRunTime(TimeUnit unit) {
+            return unit.convert(this.runNanos.get(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+}
@@ -44,6 +44,7 @@ public class ScheduledTask implements Task {
     private final PluginContainer owner;
     private final Consumer<Task> consumer;
     private long timestamp;
+    private long queuedExecutionTimestamp;
     private ScheduledTaskState state;
     private final UUID id;
     private final String name;
@@ -130,6 +131,7 @@ public boolean cancel() {
             success = true;
         }
         this.setState(ScheduledTask.ScheduledTaskState.CANCELED);
+        SpongeScheduler.getInstance().onCancel(this);
         return success;
     }
 
@@ -176,6 +178,22 @@ void setTimestamp(long timestamp) {
         this.timestamp = timestamp;
     }
 
+    /**
+     * Returns the execution timestamp this task was queued with by a
+     * scheduler ordering its tasks by due time. Unlike
+     * {@link #nextExecutionTimestamp()} this does not change while the task
+     * is queued.
+     *
+     * @return The queued execution timestamp
+     */
+    long getQueuedExecutionTimestamp() {
+        return this.queuedExecutionTimestamp;
+    }
+
+    void setQueuedExecutionTimestamp(long queuedExecutionTimestamp) {
+        this.queuedExecutionTimestamp = queuedExecutionTimestamp;
+    }
+
     ScheduledTaskState getState() {
         return this.state;
     }
@@ -85,6 +85,15 @@ protected void removeTask(ScheduledTask task) {
         this.taskMap.remove(task.getUniqueId());
     }
 
+    /**
+     * Called when a task of this scheduler was cancelled. Cancelled tasks are
+     * removed from the task map the next time they are processed.
+     *
+     * @param task The cancelled task
+     */
+    protected void onCancel(ScheduledTask task) {
+    }
+
     protected Optional<Task> getTask(UUID id) {
         return Optional.<Task>ofNullable(this.taskMap.get(id));
     }
@@ -139,6 +148,27 @@ protected void processTask(ScheduledTask task) {
             this.removeTask(task);
             return;
         }
+        // Repeating tasks get a reset-timestamp each time they are set RUNNING
+        // If the task has a period of 0 (zero) this task will not repeat, and
+        // is removed after we start it.
+        if (isDue(task)) {
+            task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
+            task.setTimestamp(this.getTimestamp(task));
+            startTask(task);
+            // If task is one time shot, remove it from the map.
+            if (task.period == 0L) {
+                this.removeTask(task);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the task should be started now.
+     *
+     * @param task The task to check
+     * @return True if the delay or interval of the task has passed
+     */
+    protected boolean isDue(ScheduledTask task) {
         long threshold = Long.MAX_VALUE;
         // Figure out if we start a delayed Task after threshold ticks or, start
         // it after the interval (period) of the repeating task parameter.
@@ -151,18 +181,7 @@ protected void processTask(ScheduledTask task) {
         long now = this.getTimestamp(task);
         // So, if the current time minus the timestamp of the task is greater
         // than the delay to wait before starting the task, then start the task.
-        // Repeating tasks get a reset-timestamp each time they are set RUNNING
-        // If the task has a period of 0 (zero) this task will not repeat, and
-        // is removed after we start it.
-        if (threshold <= (now - task.getTimestamp())) {
-            task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
-            task.setTimestamp(this.getTimestamp(task));
-            startTask(task);
-            // If task is one time shot, remove it from the map.
-            if (task.period == 0L) {
-                this.removeTask(task);
-            }
-        }
+        return threshold <= (now - task.getTimestamp());
     }
 
     /**
@@ -171,7 +190,7 @@ protected void processTask(ScheduledTask task) {
      * @param task The task to start
      */
     protected void startTask(final ScheduledTask task) {
-        this.executeTaskRunnable(() -> {
+        this.executeTaskRunnable(task, () -> {
             task.setState(ScheduledTask.ScheduledTaskState.RUNNING);
             try {
                 task.getConsumer().accept(task);
@@ -185,8 +204,9 @@ protected void startTask(final ScheduledTask task) {
     /**
      * Actually run the runnable that will begin the task
      *
+     * @param task The task the runnable belongs to
      * @param runnable The runnable to run
      */
-    protected abstract void executeTaskRunnable(Runnable runnable);
+    protected abstract void executeTaskRunnable(ScheduledTask task, Runnable runnable);
 
 }
@@ -184,6 +184,10 @@ void submit(ScheduledTask task) {
         getDelegate(task).addTask(task);
     }
 
+    void onCancel(ScheduledTask task) {
+        getDelegate(task).onCancel(task);
+    }
+
     /**
      * Ticks the synchronous scheduler.
      */
@@ -191,6 +195,14 @@ public void tickSyncScheduler() {
         this.syncScheduler.tick();
     }
 
+    public SyncScheduler getSyncScheduler() {
+        return this.syncScheduler;
+    }
+
+    public AsyncTaskExecutor getAsyncTaskExecutor() {
+        return this.asyncScheduler.getExecutor();
+    }
+
     public <T> CompletableFuture<T> submitAsyncTask(Callable<T> callable) {
         return Functional.asyncFailableFuture(callable, this.asyncScheduler.getExecutor());
     }
@@ -24,11 +24,35 @@
  */
 package org.spongepowered.common.scheduler;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.SpongeConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 public class SyncScheduler extends SchedulerBase {
 
     // The number of ticks elapsed since this scheduler began.
     private volatile long counter = 0L;
 
+    // Due tasks which did not fit in the budget of a previous tick, in the
+    // order they were deferred. These run before any other task next tick.
+    private final Set<ScheduledTask> deferredTasks = Sets.newLinkedHashSet();
+    // Time spent running the tasks of each plugin during the current tick
+    private final Map<String, AtomicLong> pluginTickTime = Maps.newHashMap();
+    // The number of times tasks of each plugin have been deferred
+    private final Map<String, AtomicLong> pluginDeferrals = Maps.newConcurrentMap();
+    private long tickStart;
+    private long tickBudget;
+    private Map<String, Integer> pluginTickBudgets = ImmutableMap.of();
+
     SyncScheduler() {
         super(ScheduledTask.TaskSynchronicity.SYNCHRONOUS);
     }
@@ -38,9 +62,79 @@ public class SyncScheduler extends SchedulerBase {
      */
     void tick() {
         this.counter++;
+        SpongeConfig.SchedulerCategory config = SpongeImpl.getGlobalConfig().getConfig().getScheduler();
+        this.tickBudget = TimeUnit.MILLISECONDS.toNanos(config.getSyncTickBudget());
+        this.pluginTickBudgets = config.getSyncPluginTickBudgets();
         this.runTick();
     }
 
+    @Override
+    protected void preTick() {
+        this.tickStart = System.nanoTime();
+        for (AtomicLong time : this.pluginTickTime.values()) {
+            time.set(0);
+        }
+        if (!this.deferredTasks.isEmpty()) {
+            // Tasks deferred again keep their place at the front of the line
+            List<ScheduledTask> deferred = new ArrayList<>(this.deferredTasks);
+            this.deferredTasks.clear();
+            deferred.forEach(this::processTask);
+        }
+    }
+
+    @Override
+    protected void processTask(ScheduledTask task) {
+        if (task.getState() != ScheduledTask.ScheduledTaskState.CANCELED && isOverBudget(task) && isDue(task)) {
+            if (this.deferredTasks.add(task)) {
+                this.pluginDeferrals.computeIfAbsent(task.getOwner().getId(), id -> new AtomicLong()).incrementAndGet();
+            }
+            return;
+        }
+        super.processTask(task);
+    }
+
+    private boolean isOverBudget(ScheduledTask task) {
+        if (this.tickBudget > 0 && System.nanoTime() - this.tickStart >= this.tickBudget) {
+            return true;
+        }
+        Integer pluginBudget = this.pluginTickBudgets.get(task.getOwner().getId());
+        if (pluginBudget != null && pluginBudget > 0) {
+            AtomicLong spent = this.pluginTickTime.get(task.getOwner().getId());
+            return spent != null && spent.get() >= TimeUnit.MILLISECONDS.toNanos(pluginBudget);
+        }
+        return false;
+    }
+
+    @Override
+    protected void startTask(ScheduledTask task) {
+        final long start = System.nanoTime();
+        try {
+            super.startTask(task);
+        } finally {
+            this.pluginTickTime.computeIfAbsent(task.getOwner().getId(), id -> new AtomicLong()).addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Gets the number of due tasks currently waiting for a later tick because
+     * the tick budget was exceeded.
+     *
+     * @return The number of deferred tasks
+     */
+    public int getDeferredTaskCount() {
+        return this.deferredTasks.size();
+    }
+
+    /**
+     * Gets the number of times the tasks of each plugin have been deferred to
+     * a later tick.
+     *
+     * @return The deferral counts, keyed by plugin id
+     */
+    public Map<String, Long> getDeferralCounts() {
+        return ImmutableMap.copyOf(Maps.transformValues(this.pluginDeferrals, AtomicLong::get));
+    }
+
     @Override
     protected long getTimestamp(ScheduledTask task) {
         if (task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
@@ -62,7 +156,7 @@ protected long getTimestamp(ScheduledTask task) {
     }
 
     @Override
-    protected void executeTaskRunnable(Runnable runnable) {
+    protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
         runnable.run();
     }
 
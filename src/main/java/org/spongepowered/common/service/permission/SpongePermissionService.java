@@ -50,6 +50,8 @@
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 /**
@@ -60,6 +62,11 @@
 public class SpongePermissionService implements PermissionService {
     private static final Function<String, CommandSource> NO_COMMAND_SOURCE = s -> null;
 
+    // Bumped whenever any subject data or the ops list changes, which invalidates every cached permission value
+    private static final AtomicLong permissionCacheVersion = new AtomicLong();
+    private static final LongAdder permissionCacheHits = new LongAdder();
+    private static final LongAdder permissionCacheMisses = new LongAdder();
+
     private final Game game;
     private final Map<String, PermissionDescription> descriptionMap = new LinkedHashMap<>();
     private Collection<PermissionDescription> descriptions;
@@ -88,6 +95,30 @@ public SpongePermissionService(Game game) {
         this.defaultData = new FixedParentMemorySubjectData(this, getGroupForOpLevel(0));
     }
 
+    public static void invalidatePermissionCache() {
+        permissionCacheVersion.incrementAndGet();
+    }
+
+    public static long getPermissionCacheVersion() {
+        return permissionCacheVersion.get();
+    }
+
+    public static void recordPermissionCacheHit(boolean hit) {
+        if (hit) {
+            permissionCacheHits.increment();
+        } else {
+            permissionCacheMisses.increment();
+        }
+    }
+
+    public static long getPermissionCacheHits() {
+        return permissionCacheHits.sum();
+    }
+
+    public static long getPermissionCacheMisses() {
+        return permissionCacheMisses.sum();
+    }
+
     static UserListOps getOps() {
         return MinecraftServer.getServer().getConfigurationManager().getOppedPlayers();
     }
@@ -27,7 +27,6 @@
 import com.mojang.authlib.GameProfile;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.management.UserListOpsEntry;
-import org.spongepowered.api.service.context.Context;
 import org.spongepowered.api.service.permission.MemorySubjectData;
 import org.spongepowered.api.service.permission.Subject;
 import org.spongepowered.api.service.permission.SubjectCollection;
@@ -37,7 +36,6 @@
 import org.spongepowered.common.service.permission.base.SpongeSubject;
 
 import java.util.Optional;
-import java.util.Set;
 
 /**
  * An implementation of vanilla minecraft's 4 op groups.
@@ -113,8 +111,15 @@ public MemorySubjectData getSubjectData() {
     }
 
     @Override
-    public Tristate getPermissionValue(Set<Context> contexts, String permission) {
-        Tristate ret = super.getPermissionValue(contexts, permission);
+    protected boolean isPermissionCacheable() {
+        // Without an ops entry, the op level in singleplayer depends on the owner and
+        // whether cheats are allowed, changes to those don't invalidate the cache
+        return super.isPermissionCacheable() && !MinecraftServer.getServer().isSinglePlayer();
+    }
+
+    @Override
+    protected Tristate resolvePermissionValue(String permission) {
+        Tristate ret = super.resolvePermissionValue(permission);
         if (ret == Tristate.UNDEFINED) {
             ret = getDataPermissionValue(this.collection.getService().getDefaultData(), permission);
         }
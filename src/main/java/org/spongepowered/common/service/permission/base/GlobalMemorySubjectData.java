@@ -30,6 +30,7 @@
 import org.spongepowered.api.service.permission.PermissionService;
 import org.spongepowered.api.service.permission.Subject;
 import org.spongepowered.api.util.Tristate;
+import org.spongepowered.common.service.permission.SpongePermissionService;
 
 import java.util.List;
 import java.util.Map;
@@ -57,7 +58,7 @@ public boolean setPermission(Set<Context> contexts, String permission, Tristate
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.setPermission(contexts, permission, value);
+        return changed(super.setPermission(contexts, permission, value));
     }
 
     @Override
@@ -65,7 +66,7 @@ public boolean clearPermissions(Set<Context> contexts) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.clearPermissions(contexts);
+        return changed(super.clearPermissions(contexts));
     }
 
     @Override
@@ -73,7 +74,7 @@ public boolean addParent(Set<Context> contexts, Subject parent) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.addParent(contexts, parent);
+        return changed(super.addParent(contexts, parent));
     }
 
     @Override
@@ -81,7 +82,7 @@ public boolean removeParent(Set<Context> contexts, Subject parent) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.removeParent(contexts, parent);
+        return changed(super.removeParent(contexts, parent));
     }
 
     @Override
@@ -89,6 +90,31 @@ public boolean clearParents(Set<Context> contexts) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.clearParents(contexts);
+        return changed(super.clearParents(contexts));
     }
+
+    @Override
+    public boolean clearPermissions() {
+        return changed(super.clearPermissions());
+    }
+
+    @Override
+    public boolean clearParents() {
+        return changed(super.clearParents());
+    }
+
+    /**
+     * Invalidates the cached permission values of all subjects if the data
+     * was changed.
+     *
+     * @param changed Whether the data was changed
+     * @return The changed state
+     */
+    protected boolean changed(boolean changed) {
+        if (changed) {
+            SpongePermissionService.invalidatePermissionCache();
+        }
+        return changed;
+    }
+
 }
@@ -84,7 +84,7 @@ public boolean clearParents(Set<Context> contexts) {
 
     public boolean setParent(Subject parent) {
         this.parent = parent;
-        return true;
+        return changed(true);
     }
 
     public Subject getParent() {
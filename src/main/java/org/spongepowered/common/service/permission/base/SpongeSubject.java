@@ -29,12 +29,18 @@
 import org.spongepowered.api.service.permission.Subject;
 import org.spongepowered.api.service.permission.SubjectData;
 import org.spongepowered.api.util.Tristate;
+import org.spongepowered.common.service.permission.SpongePermissionService;
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public abstract class SpongeSubject implements Subject {
 
+    // Sponge subjects only have global permissions, so the values are cached by permission alone
+    private final ConcurrentMap<String, CachedValue> permissionCache = new ConcurrentHashMap<>();
+
     @Override
     public SubjectData getTransientSubjectData() {
         return getSubjectData();
@@ -50,6 +56,34 @@ public boolean hasPermission(Set<Context> contexts, String permission) {
 
     @Override
     public Tristate getPermissionValue(Set<Context> contexts, String permission) {
+        if (!isPermissionCacheable()) {
+            return resolvePermissionValue(permission);
+        }
+        final long version = SpongePermissionService.getPermissionCacheVersion();
+        final CachedValue cached = this.permissionCache.get(permission);
+        if (cached != null && cached.version == version) {
+            SpongePermissionService.recordPermissionCacheHit(true);
+            return cached.value;
+        }
+        SpongePermissionService.recordPermissionCacheHit(false);
+        // Stored with the version from before resolving, so a change made meanwhile is never hidden
+        final Tristate value = resolvePermissionValue(permission);
+        this.permissionCache.put(permission, new CachedValue(value, version));
+        return value;
+    }
+
+    /**
+     * Gets whether the resolved permission values of this subject may be
+     * cached. This is only the case if every change which affects them
+     * invalidates the cache, which {@link GlobalMemorySubjectData} does.
+     *
+     * @return Whether the permission values may be cached
+     */
+    protected boolean isPermissionCacheable() {
+        return getSubjectData() instanceof GlobalMemorySubjectData;
+    }
+
+    protected Tristate resolvePermissionValue(String permission) {
         return getDataPermissionValue(getSubjectData(), permission);
     }
 
@@ -82,4 +116,16 @@ public List<Subject> getParents(Set<Context> contexts) {
     public Set<Context> getActiveContexts() {
         return SubjectData.GLOBAL_CONTEXT;
     }
+
+    private static final class CachedValue {
+
+        final Tristate value;
+        final long version;
+
+        CachedValue(Tristate value, long version) {
+            this.value = value;
+            this.version = version;
+        }
+
+    }
 }
@@ -31,11 +31,16 @@
 import org.spongepowered.api.profile.GameProfile;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.service.user.UserStorageService;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.scheduler.SpongeScheduler;
 
+import java.io.File;
 import java.util.Collection;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public class SpongeUserStorageService implements UserStorageService {
 
@@ -74,6 +79,21 @@ public User getOrCreate(GameProfile profile) {
         return UserDiscoverer.create((com.mojang.authlib.GameProfile) profile);
     }
 
+    /**
+     * Resolves the users with the given unique ids asynchronously. Users which
+     * could not be found are absent from the resulting map. Only the player
+     * data files are read off the main thread, the future itself is completed
+     * on the main thread.
+     *
+     * @param uniqueIds The unique ids of the users to resolve
+     * @return A future of the found users, keyed by unique id
+     */
+    public CompletableFuture<Map<UUID, User>> getAll(Iterable<UUID> uniqueIds) {
+        checkNotNull(uniqueIds, "uniqueIds");
+        return UserDiscoverer.findAllByUuid(uniqueIds, SpongeImpl.getGame().getScheduler().createSyncExecutor(SpongeImpl.getPlugin()),
+                SpongeScheduler.getInstance().getAsyncTaskExecutor());
+    }
+
     @Override
     public Collection<GameProfile> getAll() {
         return UserDiscoverer.getAllProfiles();
@@ -102,4 +122,8 @@ public Collection<GameProfile> match(String lastKnownName) {
         return matching;
     }
 
+    public static void onPlayerDataWritten(File playersDirectory, UUID uniqueId) {
+        UserDiscoverer.onPlayerDataWritten(playersDirectory, uniqueId);
+    }
+
 }
@@ -26,12 +26,15 @@
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.mojang.authlib.GameProfile;
 import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.management.BanEntry;
-import net.minecraft.server.management.PlayerProfileCache;
 import net.minecraft.server.management.ServerConfigurationManager;
 import net.minecraft.server.management.UserListBans;
 import net.minecraft.server.management.UserListBansEntry;
@@ -39,6 +42,7 @@
 import net.minecraft.server.management.UserListWhitelistEntry;
 import net.minecraft.world.storage.SaveHandler;
 import org.spongepowered.api.entity.living.player.User;
+import org.spongepowered.api.profile.GameProfileCache;
 import org.spongepowered.common.entity.player.SpongeUser;
 import org.spongepowered.common.interfaces.IMixinEntityPlayerMP;
 import org.spongepowered.common.util.SpongeHooks;
@@ -48,18 +52,26 @@
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.Locale;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
+import javax.annotation.Nullable;
+
 class UserDiscoverer {
 
     private static final Cache<UUID, User> userCache = CacheBuilder.newBuilder()
             .expireAfterAccess(1, TimeUnit.DAYS)
             .build();
 
+    @Nullable private static File indexedPlayersDirectory;
+    @Nullable private static Set<UUID> storedUniqueIds;
+
     static User create(GameProfile profile) {
         User user = (User) new SpongeUser(profile);
         userCache.put(profile.getId(), user);
@@ -97,17 +109,85 @@ static User findByUuid(UUID uniqueId) {
     }
 
     static User findByUsername(String username) {
-        PlayerProfileCache cache = MinecraftServer.getServer().getPlayerProfileCache();
-        HashSet<String> names = Sets.newHashSet(cache.getUsernames());
-        if (names.contains(username.toLowerCase(Locale.ROOT))) {
-            GameProfile profile = cache.getGameProfileForUsername(username);
-            if (profile != null) {
-                return findByUuid(profile.getId());
-            }
+        // Only consults the cache, never performs a web lookup
+        Optional<org.spongepowered.api.profile.GameProfile> profile =
+                ((GameProfileCache) MinecraftServer.getServer().getPlayerProfileCache()).getByName(username);
+        if (profile.isPresent()) {
+            return findByUuid(profile.get().getUniqueId());
         }
         return null;
     }
 
+    /**
+     * Resolves many users at once. Everything that touches the server's player
+     * list, whitelist, ban list or profile cache runs on the main thread, only
+     * the player data files are read on the async executor.
+     *
+     * @param uniqueIds The users' UUIDs
+     * @param mainThread An executor running tasks on the main thread
+     * @param async An executor for the file reads
+     * @return A future of the found users, keyed by UUID
+     */
+    static CompletableFuture<Map<UUID, User>> findAllByUuid(Iterable<UUID> uniqueIds, Executor mainThread, Executor async) {
+        final List<UUID> toFind = ImmutableList.copyOf(uniqueIds);
+        return CompletableFuture.supplyAsync(() -> new BatchLookup(toFind), mainThread)
+                .thenApplyAsync(BatchLookup::readStoredData, async)
+                .thenApplyAsync(BatchLookup::finish, mainThread);
+    }
+
+    /**
+     * Called after the player data file of the given user was written, making
+     * sure the user is known without having to list the player data directory
+     * again.
+     *
+     * @param playersDirectory The directory the data was written to
+     * @param uniqueId The user's UUID
+     */
+    static void onPlayerDataWritten(File playersDirectory, UUID uniqueId) {
+        synchronized (UserDiscoverer.class) {
+            if (playersDirectory.equals(indexedPlayersDirectory)) {
+                storedUniqueIds.add(uniqueId);
+            }
+        }
+    }
+
+    /**
+     * Gets the UUIDs of all users with a player data file in the overworld's
+     * player directory. The directory is only listed the first time this is
+     * called for a given directory, afterwards the index is kept current by
+     * {@link #onPlayerDataWritten} and {@link #deleteStoredPlayerData}.
+     *
+     * @param saveHandler The overworld's save handler
+     * @return The UUIDs of all stored users
+     */
+    private static Set<UUID> getStoredUniqueIds(SaveHandler saveHandler) {
+        synchronized (UserDiscoverer.class) {
+            if (!saveHandler.playersDirectory.equals(indexedPlayersDirectory)) {
+                Set<UUID> uniqueIds = Sets.newConcurrentHashSet();
+                for (String playerUuid : saveHandler.getAvailablePlayerDat()) {
+                    // Some mods store other files in the 'playerdata' folder, so
+                    // we need to ensure that the filename is a valid UUID
+                    if (playerUuid.split("-").length != 5) {
+                        continue;
+                    }
+                    try {
+                        UUID uniqueId = UUID.fromString(playerUuid);
+                        // The file is looked up by the UUID's string form later on,
+                        // which may not match a non-canonical file name
+                        if (uniqueId.toString().equals(playerUuid)) {
+                            uniqueIds.add(uniqueId);
+                        }
+                    } catch (IllegalArgumentException e) {
+                        // Not a player data file
+                    }
+                }
+                storedUniqueIds = uniqueIds;
+                indexedPlayersDirectory = saveHandler.playersDirectory;
+            }
+            return storedUniqueIds;
+        }
+    }
+
     @SuppressWarnings("unchecked")
     static Collection<org.spongepowered.api.profile.GameProfile> getAllProfiles() {
         Set<org.spongepowered.api.profile.GameProfile> profiles = Sets.newHashSet();
@@ -119,16 +199,8 @@ static Collection<org.spongepowered.api.profile.GameProfile> getAllProfiles() {
 
         // Add all known profiles from the data files
         SaveHandler saveHandler = (SaveHandler) DimensionManager.getWorldFromDimId(0).getSaveHandler();
-        String[] uuids = saveHandler.getAvailablePlayerDat();
-        for (String playerUuid : uuids) {
-
-            // Some mods store other files in the 'playerdata' folder, so
-            // we need to ensure that the filename is a valid UUID
-            if (playerUuid.split("-").length != 5) {
-                continue;
-            }
-
-            GameProfile profile = MinecraftServer.getServer().getPlayerProfileCache().getProfileByUUID(UUID.fromString(playerUuid));
+        for (UUID playerUuid : getStoredUniqueIds(saveHandler)) {
+            GameProfile profile = MinecraftServer.getServer().getPlayerProfileCache().getProfileByUUID(playerUuid);
             if (profile != null) {
                 profiles.add((org.spongepowered.api.profile.GameProfile) profile);
             }
@@ -225,11 +297,8 @@ private static User getFromBanlist(UUID uniqueId) {
     private static File getPlayerDataFile(UUID uniqueId) {
         // Note: Uses the overworld's player data
         SaveHandler saveHandler = (SaveHandler) DimensionManager.getWorldFromDimId(0).getSaveHandler();
-        String[] uuids = saveHandler.getAvailablePlayerDat();
-        for (String playerUuid : uuids) {
-            if (uniqueId.toString().equals(playerUuid)) {
-                return new File(saveHandler.playersDirectory, playerUuid + ".dat");
-            }
+        if (getStoredUniqueIds(saveHandler).contains(uniqueId)) {
+            return new File(saveHandler.playersDirectory, uniqueId.toString() + ".dat");
         }
         return null;
     }
@@ -238,7 +307,15 @@ private static boolean deleteStoredPlayerData(UUID uniqueId) {
         File dataFile = getPlayerDataFile(uniqueId);
         if (dataFile != null) {
             try {
-                return dataFile.delete();
+                if (dataFile.delete()) {
+                    synchronized (UserDiscoverer.class) {
+                        if (storedUniqueIds != null) {
+                            storedUniqueIds.remove(uniqueId);
+                        }
+                    }
+                    return true;
+                }
+                return false;
             } catch (SecurityException e) {
                 SpongeHooks.logWarning("Unable to delete file {} due to a security error. {}", dataFile, e);
                 return false;
@@ -259,4 +336,66 @@ private static boolean deleteBanlistEntry(UUID uniqueId) {
         return true;
     }
 
+    private static final class BatchLookup {
+
+        private final Map<UUID, User> found = Maps.newHashMap();
+        private final Map<UUID, GameProfile> storedProfiles = Maps.newHashMap();
+        private final Map<UUID, File> storedFiles = Maps.newHashMap();
+        private final Map<UUID, NBTTagCompound> storedData = Maps.newConcurrentMap();
+        private final List<UUID> remaining = Lists.newArrayList();
+
+        BatchLookup(List<UUID> uniqueIds) {
+            for (UUID uniqueId : uniqueIds) {
+                User user = userCache.getIfPresent(uniqueId);
+                if (user == null) {
+                    user = getOnlinePlayer(uniqueId);
+                }
+                if (user != null) {
+                    this.found.put(uniqueId, user);
+                    continue;
+                }
+                File dataFile = getPlayerDataFile(uniqueId);
+                GameProfile profile = dataFile == null ? null : MinecraftServer.getServer().getPlayerProfileCache().getProfileByUUID(uniqueId);
+                if (profile != null) {
+                    this.storedProfiles.put(uniqueId, profile);
+                    this.storedFiles.put(uniqueId, dataFile);
+                } else {
+                    this.remaining.add(uniqueId);
+                }
+            }
+        }
+
+        BatchLookup readStoredData() {
+            for (Map.Entry<UUID, File> entry : this.storedFiles.entrySet()) {
+                try (FileInputStream in = new FileInputStream(entry.getValue())) {
+                    this.storedData.put(entry.getKey(), CompressedStreamTools.readCompressed(in));
+                } catch (IOException e) {
+                    SpongeHooks.logWarning("Corrupt user file {}. {}", entry.getValue(), e);
+                }
+            }
+            return this;
+        }
+
+        Map<UUID, User> finish() {
+            for (Map.Entry<UUID, GameProfile> entry : this.storedProfiles.entrySet()) {
+                User user = create(entry.getValue());
+                NBTTagCompound compound = this.storedData.get(entry.getKey());
+                if (compound != null) {
+                    ((SpongeUser) user).readFromNbt(compound);
+                }
+                this.found.put(entry.getKey(), user);
+            }
+            for (UUID uniqueId : this.remaining) {
+                User user = getFromWhitelist(uniqueId);
+                if (user == null) {
+                    user = getFromBanlist(uniqueId);
+                }
+                if (user != null) {
+                    this.found.put(uniqueId, user);
+                }
+            }
+            return this.found;
+        }
+    }
+
 }
@@ -0,0 +1,111 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.text.chat;
+
+import net.minecraft.network.play.server.S02PacketChat;
+import net.minecraft.util.IChatComponent;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.chat.ChatType;
+import org.spongepowered.api.text.chat.ChatTypes;
+import org.spongepowered.common.text.SpongeTexts;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Shares the chat packet of the last sent message, so that a message sent
+ * through a {@link org.spongepowered.api.text.channel.MessageChannel} is only
+ * converted and encoded once for all of its receivers.
+ *
+ * <p>Texts are immutable, so the same text instance always results in the
+ * same packet. Channels which transform the message per receiver simply
+ * miss the cache.</p>
+ */
+public final class ChatPacketCache {
+
+    private static final int CHAT_TYPES = 3;
+
+    private static final AtomicLongArray sentCounts = new AtomicLongArray(CHAT_TYPES);
+    private static final AtomicLongArray createdCounts = new AtomicLongArray(CHAT_TYPES);
+
+    private static volatile CachedPacket lastPacket;
+
+    private ChatPacketCache() {
+    }
+
+    public static S02PacketChat getPacket(Text message, ChatType type) {
+        final byte id = ((SpongeChatType) type).getByteId();
+        sentCounts.incrementAndGet(id);
+
+        final CachedPacket cached = lastPacket;
+        if (cached != null && cached.message == message && cached.type == id) {
+            return cached.packet;
+        }
+
+        IChatComponent component = SpongeTexts.toComponent(message);
+        if (type == ChatTypes.ACTION_BAR) {
+            component = SpongeTexts.fixActionBarFormatting(component);
+        }
+        final S02PacketChat packet = new S02PacketChat(component, id);
+        createdCounts.incrementAndGet(id);
+        lastPacket = new CachedPacket(message, id, packet);
+        return packet;
+    }
+
+    /**
+     * Gets the number of messages sent to players with the given chat type.
+     *
+     * @param type The chat type
+     * @return The number of sent messages
+     */
+    public static long getSentCount(ChatType type) {
+        return sentCounts.get(((SpongeChatType) type).getByteId());
+    }
+
+    /**
+     * Gets the number of chat packets which had to be created for the given
+     * chat type, every other sent message reused an encoded packet.
+     *
+     * @param type The chat type
+     * @return The number of created packets
+     */
+    public static long getCreatedCount(ChatType type) {
+        return createdCounts.get(((SpongeChatType) type).getByteId());
+    }
+
+    private static final class CachedPacket {
+
+        final Text message;
+        final byte type;
+        final S02PacketChat packet;
+
+        CachedPacket(Text message, byte type, S02PacketChat packet) {
+            this.message = message;
+            this.type = type;
+            this.packet = packet;
+        }
+
+    }
+
+}
@@ -28,9 +28,11 @@
 import static org.spongepowered.common.util.OptionalUtils.asSet;
 
 import com.flowpowered.math.vector.Vector3d;
+import com.google.common.base.Predicates;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import net.minecraft.util.AxisAlignedBB;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.data.manipulator.mutable.DisplayNameData;
 import org.spongepowered.api.data.manipulator.mutable.entity.ExperienceHolderData;
@@ -66,11 +68,14 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 /**
  * A resolver that acts like Vanilla Minecraft in many regards.
  */
@@ -82,6 +87,9 @@ public class SelectorResolver {
     private static final Set<ArgumentType<?>> LOCATION_BASED_ARGUMENTS;
     private static final Function<Number, Double> TO_DOUBLE = Number::doubleValue;
     private static final Collection<SelectorType> INFINITE_TYPES = ImmutableSet.of(SelectorTypes.ALL_ENTITIES, SelectorTypes.ALL_PLAYERS);
+    // Vertical extent used for bounds without a y restriction, large enough to hold any entity
+    private static final double MAX_SEARCH_HEIGHT = 3.0E7D;
+    private static final Random RANDOM = new Random();
 
     static {
         ImmutableSet.Builder<ArgumentType<?>> builder = ImmutableSet.builder();
@@ -117,6 +125,9 @@ private static <I, R> Predicate<I> requireTypePredicate(Class<I> inputType, fina
     private final Selector selector;
     private final Predicate<Entity> selectorFilter;
     private final boolean alwaysUsePosition;
+    private final boolean playerOnly;
+    private final boolean playerCandidates;
+    @Nullable private final AxisAlignedBB bounds;
 
     public SelectorResolver(Collection<? extends Extent> extents, Selector selector, boolean force) {
         this(extents, null, null, selector, force);
@@ -136,13 +147,59 @@ private SelectorResolver(Collection<? extends Extent> extents, Vector3d position
         this.position = position == null ? ORIGIN : position;
         this.original = Optional.ofNullable(original);
         this.selector = checkNotNull(selector);
+        this.playerOnly = isPlayerOnlySelector();
+        Optional<Invertible<EntityType>> type = selector.getArgument(ArgumentTypes.ENTITY_TYPE);
+        this.playerCandidates = this.playerOnly
+                || (type.isPresent() && !type.get().isInverted() && type.get().getValue() == EntityTypes.PLAYER);
         this.selectorFilter = makeFilter();
         this.alwaysUsePosition = force;
+        this.bounds = makeBounds(getPositionOrDefault(this.position, ArgumentTypes.POSITION));
     }
 
-    private Predicate<Entity> makeFilter() {
-        // for easier reading
+    private boolean isPlayerOnlySelector() {
+        SelectorType selectorType = this.selector.getType();
+        Optional<Invertible<EntityType>> type = this.selector.getArgument(ArgumentTypes.ENTITY_TYPE);
+        // isn't an ALL_ENTITIES selector or it is a RANDOM selector for only players
+        return selectorType == SelectorTypes.ALL_PLAYERS || selectorType == SelectorTypes.NEAREST_PLAYER
+                || (selectorType == SelectorTypes.RANDOM && type.isPresent() && !type.get().isInverted()
+                && type.get().getValue() != EntityTypes.PLAYER);
+    }
+
+    /**
+     * Builds a box containing every position accepted by the radius and
+     * dimension arguments, so candidates can be looked up by chunk instead of
+     * scanning all loaded entities. Slightly larger than necessary as entities
+     * are matched by bounding box, the filters still check exact positions.
+     */
+    @Nullable
+    private AxisAlignedBB makeBounds(Vector3d position) {
         final Selector sel = this.selector;
+        Vector3d min = null;
+        Vector3d max = null;
+        Optional<Integer> radiusMax = sel.get(ArgumentTypes.RADIUS.maximum());
+        if (radiusMax.isPresent()) {
+            double radius = radiusMax.get() + 1;
+            min = position.sub(radius, radius, radius);
+            max = position.add(radius, radius, radius);
+        }
+        if (sel.has(ArgumentTypes.DIMENSION.x()) && sel.has(ArgumentTypes.DIMENSION.z())) {
+            Vector3d boxDimensions = getPositionOrDefault(ORIGIN, ArgumentTypes.DIMENSION);
+            Vector3d boxMin = position.min(position.add(boxDimensions)).sub(1, 1, 1);
+            Vector3d boxMax = position.max(position.add(boxDimensions)).add(1, 1, 1);
+            if (!sel.has(ArgumentTypes.DIMENSION.y())) {
+                boxMin = new Vector3d(boxMin.getX(), -MAX_SEARCH_HEIGHT, boxMin.getZ());
+                boxMax = new Vector3d(boxMax.getX(), MAX_SEARCH_HEIGHT, boxMax.getZ());
+            }
+            min = min == null ? boxMin : min.max(boxMin);
+            max = max == null ? boxMax : max.min(boxMax);
+        }
+        if (min == null) {
+            return null;
+        }
+        return new AxisAlignedBB(min.getX(), min.getY(), min.getZ(), max.getX(), max.getY(), max.getZ());
+    }
+
+    private Predicate<Entity> makeFilter() {
         Vector3d position = getPositionOrDefault(this.position, ArgumentTypes.POSITION);
         List<Predicate<Entity>> filters = Lists.newArrayList();
         addTypeFilters(filters);
@@ -154,14 +211,7 @@ private Predicate<Entity> makeFilter() {
         addRotationFilters(filters);
         addTeamFilters(filters);
         addScoreFilters(filters);
-        SelectorType selectorType = sel.getType();
-        Optional<Invertible<EntityType>> type = sel.getArgument(ArgumentTypes.ENTITY_TYPE);
-        // isn't an ALL_ENTITIES selector or it is a RANDOM selector for only players
-        boolean isPlayerOnlySelector =
-            selectorType == SelectorTypes.ALL_PLAYERS || selectorType == SelectorTypes.NEAREST_PLAYER
-                || (selectorType == SelectorTypes.RANDOM && type.isPresent() && !type.get().isInverted()
-                && type.get().getValue() != EntityTypes.PLAYER);
-        if (isPlayerOnlySelector) {
+        if (this.playerOnly) {
             // insert at the start so it applies first
             filters.add(0, requireTypePredicate(Entity.class, Player.class));
         }
@@ -347,31 +397,79 @@ public Set<Entity> resolve() {
             defaultCount = 0;
         }
         int maxToSelect = this.selector.get(ArgumentTypes.COUNT).orElse(defaultCount);
-        Set<? extends Extent> extents = getExtentSet();
+        if (selectorType == SelectorTypes.RANDOM && maxToSelect > 0) {
+            return resolveRandom(maxToSelect);
+        }
         int count = 0;
         ImmutableSet.Builder<Entity> entities = ImmutableSet.builder();
-        for (Extent extent : extents) {
-            Collection<Entity> allEntities = extent.getEntities();
-            if (selectorType == SelectorTypes.RANDOM) {
-                List<Entity> entityList = new ArrayList<>(allEntities);
-                Collections.shuffle(entityList);
-                allEntities = entityList;
-            }
-
-            for (Entity e : allEntities) {
+        for (Extent extent : getExtentSet()) {
+            for (Entity e : getCandidates(extent)) {
                 if (!this.selectorFilter.test(e)) {
                     continue;
                 }
                 entities.add(e);
                 count++;
-                if (maxToSelect != 0 && count > maxToSelect) {
-                    break;
+                if (maxToSelect != 0 && count >= maxToSelect) {
+                    return entities.build();
                 }
             }
         }
         return entities.build();
     }
 
+    /**
+     * Picks entities uniformly at random among all matches using reservoir
+     * sampling, so matches never need to be collected or shuffled.
+     */
+    private Set<Entity> resolveRandom(int maxToSelect) {
+        List<Entity> selected = new ArrayList<>(maxToSelect);
+        int matched = 0;
+        for (Extent extent : getExtentSet()) {
+            for (Entity e : getCandidates(extent)) {
+                if (!this.selectorFilter.test(e)) {
+                    continue;
+                }
+                matched++;
+                if (selected.size() < maxToSelect) {
+                    selected.add(e);
+                } else {
+                    int slot = RANDOM.nextInt(matched);
+                    if (slot < maxToSelect) {
+                        selected.set(slot, e);
+                    }
+                }
+            }
+        }
+        Collections.shuffle(selected, RANDOM);
+        return ImmutableSet.copyOf(selected);
+    }
+
+    /**
+     * Gets the entities of the extent which may match the selector, without
+     * copying the world's entity list.
+     */
+    @SuppressWarnings("unchecked")
+    private Iterable<Entity> getCandidates(Extent extent) {
+        if (!(extent instanceof net.minecraft.world.World)) {
+            return extent.getEntities();
+        }
+        net.minecraft.world.World world = (net.minecraft.world.World) extent;
+        if (this.playerCandidates) {
+            return (Iterable<Entity>) (Iterable<?>) world.playerEntities;
+        }
+        if (this.bounds != null) {
+            int chunksX = (int) ((this.bounds.maxX - this.bounds.minX) / 16) + 1;
+            int chunksZ = (int) ((this.bounds.maxZ - this.bounds.minZ) / 16) + 1;
+            // Looking up more chunks than are loaded is slower than a scan
+            if ((long) chunksX * chunksZ <= world.getChunkProvider().getLoadedChunkCount()) {
+                // The two argument overload would skip spectators, which the scan includes
+                return (Iterable<Entity>) (Iterable<?>) world.getEntitiesWithinAABB(net.minecraft.entity.Entity.class, this.bounds,
+                        Predicates.alwaysTrue());
+            }
+        }
+        return (Iterable<Entity>) (Iterable<?>) world.loadedEntityList;
+    }
+
     private Set<? extends Extent> getExtentSet() {
         if (!this.alwaysUsePosition && Collections.disjoint(getArgumentTypes(this.selector.getArguments()), LOCATION_BASED_ARGUMENTS)) {
             return ImmutableSet.copyOf(SpongeImpl.getGame().getServer().getWorlds());
@@ -53,6 +53,7 @@
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.service.user.UserStorageService;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.config.SpongeConfig;
 import org.spongepowered.common.config.SpongeConfig.DimensionConfig;
@@ -62,9 +63,11 @@
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
 import org.spongepowered.common.interfaces.world.IMixinWorld;
+import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
 import org.spongepowered.common.interfaces.world.IMixinWorldProvider;
 import org.spongepowered.common.registry.type.world.DimensionRegistryModule;
 import org.spongepowered.common.world.CaptureType;
+import org.spongepowered.common.world.storage.BlockTrackerStore;
 
 import java.io.File;
 import java.lang.management.ManagementFactory;
@@ -74,6 +77,7 @@
 import java.text.MessageFormat;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.regex.Pattern;
 
 import javax.management.MBeanServer;
@@ -610,32 +614,65 @@ public boolean apply(EntityHanging entityIn) {
         return list;
     }
 
-    public static Optional<User> tryToTrackBlock(World world, Object source, BlockPos sourcePos, Block targetBlock, BlockPos targetPos, PlayerTracker.Type type) {
+    /**
+     * Passes the notifier, or else the owner, of the source position on to the
+     * target position. Works on the world's user indices only, so no
+     * {@link User} is resolved.
+     *
+     * @return The index of the user now tracked at the target, or
+     *     {@link BlockTrackerStore#NO_INDEX}
+     */
+    public static int tryToTrackBlock(World world, Object source, BlockPos sourcePos, Block targetBlock, BlockPos targetPos, PlayerTracker.Type type) {
         if (!world.isBlockLoaded(sourcePos) || !world.isBlockLoaded(targetPos)) {
-            return Optional.empty();
+            return BlockTrackerStore.NO_INDEX;
         }
 
         IMixinChunk spongeChunk = (IMixinChunk) world.getChunkFromBlockCoords(sourcePos);
         if (spongeChunk != null) {
-            Optional<User> owner = spongeChunk.getBlockOwner(sourcePos);
-            Optional<User> notifier = spongeChunk.getBlockNotifier(sourcePos);
-            if (notifier.isPresent()) {
-                spongeChunk = (IMixinChunk) world.getChunkFromBlockCoords(targetPos);
-                spongeChunk.addTrackedBlockPosition(world.getBlockState(targetPos).getBlock(), targetPos, notifier.get(), type);
-                return notifier;
-            } else if (owner.isPresent()) {
-                spongeChunk.addTrackedBlockPosition(world.getBlockState(targetPos).getBlock(), targetPos, owner.get(), type);
-                return owner;
+            BlockTrackerStore store = spongeChunk.getTrackedBlockStore();
+            int index = store.getNotifierIndex(sourcePos.getX(), sourcePos.getY(), sourcePos.getZ());
+            if (index == BlockTrackerStore.NO_INDEX) {
+                index = store.getOwnerIndex(sourcePos.getX(), sourcePos.getY(), sourcePos.getZ());
+            }
+            if (index != BlockTrackerStore.NO_INDEX) {
+                IMixinChunk targetChunk = (IMixinChunk) world.getChunkFromBlockCoords(targetPos);
+                targetChunk.addTrackedBlockPosition(world.getBlockState(targetPos).getBlock(), targetPos, index, type);
+                return index;
             }
         }
-        return Optional.empty();
+        return BlockTrackerStore.NO_INDEX;
     }
 
     public static void tryToTrackBlockAndEntity(World world, Object source, Entity entity, BlockPos sourcePos, Block targetBlock, BlockPos targetPos, PlayerTracker.Type type) {
-        Optional<User> user = tryToTrackBlock(world, source, sourcePos, targetBlock, targetPos, type);
-        if (user.isPresent()) {
-            ((IMixinEntity) entity).trackEntityUniqueId(NbtDataUtil.SPONGE_ENTITY_CREATOR, user.get().getUniqueId());
+        int index = tryToTrackBlock(world, source, sourcePos, targetBlock, targetPos, type);
+        if (index != BlockTrackerStore.NO_INDEX) {
+            Optional<UUID> uuid = ((IMixinWorldInfo) world.getWorldInfo()).getUniqueIdForIndex(index);
+            if (uuid.isPresent()) {
+                ((IMixinEntity) entity).trackEntityUniqueId(NbtDataUtil.SPONGE_ENTITY_CREATOR, uuid.get());
+            }
+        }
+    }
+
+    /**
+     * Resolves the user of a world's user index, preferring online players
+     * over the {@link UserStorageService}.
+     */
+    public static Optional<User> getUserForIndex(World world, int index) {
+        if (index == BlockTrackerStore.NO_INDEX) {
+            return Optional.empty();
+        }
+        Optional<UUID> uuid = ((IMixinWorldInfo) world.getWorldInfo()).getUniqueIdForIndex(index);
+        if (uuid.isPresent()) {
+            // get player if online
+            EntityPlayer player = world.getPlayerEntityByUUID(uuid.get());
+            if (player != null) {
+                return Optional.of((User) player);
+            }
+            // player is not online, get user from storage if one exists
+            return SpongeImpl.getGame().getServiceManager().provide(UserStorageService.class).get().get(uuid.get());
         }
+
+        return Optional.empty();
     }
 
     // Remove below after update to 1.8.8
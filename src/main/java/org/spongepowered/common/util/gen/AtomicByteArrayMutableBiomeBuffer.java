@@ -0,0 +1,164 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.gen;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.flowpowered.math.vector.Vector2i;
+import net.minecraft.world.biome.BiomeGenBase;
+import org.spongepowered.api.util.DiscreteTransform2;
+import org.spongepowered.api.util.annotation.NonnullByDefault;
+import org.spongepowered.api.world.biome.BiomeType;
+import org.spongepowered.api.world.biome.BiomeTypes;
+import org.spongepowered.api.world.extent.ImmutableBiomeArea;
+import org.spongepowered.api.world.extent.MutableBiomeArea;
+import org.spongepowered.api.world.extent.StorageType;
+import org.spongepowered.api.world.extent.UnmodifiableBiomeArea;
+import org.spongepowered.api.world.extent.worker.MutableBiomeAreaWorker;
+import org.spongepowered.common.world.extent.MutableBiomeViewDownsize;
+import org.spongepowered.common.world.extent.MutableBiomeViewTransform;
+import org.spongepowered.common.world.extent.UnmodifiableBiomeAreaWrapper;
+import org.spongepowered.common.world.extent.worker.SpongeMutableBiomeAreaWorker;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Mutable biome area that can be read and written from several threads at
+ * once.
+ *
+ * <p>Biome ids are packed four per int in an {@link AtomicIntegerArray}, so
+ * the buffer takes the same memory as a {@code byte[]}.</p>
+ */
+@NonnullByDefault
+public final class AtomicByteArrayMutableBiomeBuffer extends AbstractBiomeBuffer implements MutableBiomeArea {
+
+    private final int length;
+    private final AtomicIntegerArray biomes;
+
+    public AtomicByteArrayMutableBiomeBuffer(Vector2i start, Vector2i size) {
+        super(start, size);
+        this.length = size.getX() * size.getY();
+        this.biomes = new AtomicIntegerArray((this.length + 3) >> 2);
+    }
+
+    /**
+     * Creates a new instance holding a copy of the given biome ids.
+     *
+     * @param biomes The biome ids, not modified
+     * @param start The start of the area
+     * @param size The size of the area
+     */
+    public AtomicByteArrayMutableBiomeBuffer(byte[] biomes, Vector2i start, Vector2i size) {
+        super(start, size);
+        this.length = biomes.length;
+        final int[] packed = new int[(this.length + 3) >> 2];
+        for (int i = 0; i < this.length; i++) {
+            packed[i >> 2] |= (biomes[i] & 0xff) << ((i & 3) << 3);
+        }
+        this.biomes = new AtomicIntegerArray(packed);
+    }
+
+    byte get(int index) {
+        return (byte) (this.biomes.get(index >> 2) >>> ((index & 3) << 3));
+    }
+
+    void set(int index, byte value) {
+        final int slot = index >> 2;
+        final int shift = (index & 3) << 3;
+        final int mask = 0xff << shift;
+        int current;
+        do {
+            current = this.biomes.get(slot);
+        } while (!this.biomes.compareAndSet(slot, current, (current & ~mask) | ((value & 0xff) << shift)));
+    }
+
+    /**
+     * Copies the current biome ids into a new array.
+     *
+     * @return The copied biome ids
+     */
+    public byte[] toArray() {
+        final byte[] copy = new byte[this.length];
+        for (int i = 0; i < this.length; i++) {
+            copy[i] = get(i);
+        }
+        return copy;
+    }
+
+    @Override
+    public void setBiome(int x, int z, BiomeType biome) {
+        checkNotNull(biome, "biome");
+        checkRange(x, z);
+        set(getIndex(x, z), (byte) ((BiomeGenBase) biome).biomeID);
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    @Override
+    public BiomeType getBiome(int x, int z) {
+        checkRange(x, z);
+        BiomeType biomeType = (BiomeType) BiomeGenBase.getBiomeGenArray()[get(getIndex(x, z)) & 0xff];
+        return biomeType == null ? BiomeTypes.OCEAN : biomeType;
+    }
+
+    @Override
+    public MutableBiomeArea getBiomeView(Vector2i newMin, Vector2i newMax) {
+        checkRange(newMin.getX(), newMin.getY());
+        checkRange(newMax.getX(), newMax.getY());
+        return new MutableBiomeViewDownsize(this, newMin, newMax);
+    }
+
+    @Override
+    public MutableBiomeArea getBiomeView(DiscreteTransform2 transform) {
+        return new MutableBiomeViewTransform(this, transform);
+    }
+
+    @Override
+    public MutableBiomeAreaWorker<? extends MutableBiomeArea> getBiomeWorker() {
+        return new SpongeMutableBiomeAreaWorker<>(this);
+    }
+
+    @Override
+    public UnmodifiableBiomeArea getUnmodifiableBiomeView() {
+        return new UnmodifiableBiomeAreaWrapper(this);
+    }
+
+    @Override
+    public MutableBiomeArea getBiomeCopy(StorageType type) {
+        switch (type) {
+            case STANDARD:
+                return new ByteArrayMutableBiomeBuffer(toArray(), this.start, this.size);
+            case THREAD_SAFE:
+                return new AtomicByteArrayMutableBiomeBuffer(toArray(), this.start, this.size);
+            default:
+                throw new UnsupportedOperationException(type.name());
+        }
+    }
+
+    @Override
+    public ImmutableBiomeArea getImmutableBiomeCopy() {
+        return ByteArrayImmutableBiomeBuffer.newWithoutArrayClone(toArray(), this.start, this.size);
+    }
+
+}
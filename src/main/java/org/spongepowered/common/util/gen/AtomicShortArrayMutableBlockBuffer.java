@@ -0,0 +1,161 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.gen;
+
+import com.flowpowered.math.vector.Vector3i;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.util.DiscreteTransform3;
+import org.spongepowered.api.util.annotation.NonnullByDefault;
+import org.spongepowered.api.world.extent.ImmutableBlockVolume;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.StorageType;
+import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
+import org.spongepowered.api.world.extent.worker.MutableBlockVolumeWorker;
+import org.spongepowered.common.world.extent.MutableBlockViewDownsize;
+import org.spongepowered.common.world.extent.MutableBlockViewTransform;
+import org.spongepowered.common.world.extent.UnmodifiableBlockVolumeWrapper;
+import org.spongepowered.common.world.extent.worker.SpongeMutableBlockVolumeWorker;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Mutable block volume that can be read and written from several threads at
+ * once.
+ *
+ * <p>Block state ids are packed two per int in an {@link AtomicIntegerArray},
+ * so the buffer takes the same memory as a {@code short[]} while every read
+ * and write stays atomic and visible to other threads.</p>
+ */
+@NonnullByDefault
+public final class AtomicShortArrayMutableBlockBuffer extends AbstractBlockBuffer implements MutableBlockVolume {
+
+    private final int length;
+    private final AtomicIntegerArray blocks;
+
+    public AtomicShortArrayMutableBlockBuffer(Vector3i start, Vector3i size) {
+        super(start, size);
+        this.length = size.getX() * size.getY() * size.getZ();
+        this.blocks = new AtomicIntegerArray((this.length + 1) >> 1);
+    }
+
+    /**
+     * Creates a new instance holding a copy of the given block state ids.
+     *
+     * @param blocks The block state ids, not modified
+     * @param start The start of the volume
+     * @param size The size of the volume
+     */
+    public AtomicShortArrayMutableBlockBuffer(short[] blocks, Vector3i start, Vector3i size) {
+        super(start, size);
+        this.length = blocks.length;
+        final int[] packed = new int[(this.length + 1) >> 1];
+        for (int i = 0; i < this.length; i++) {
+            packed[i >> 1] |= (blocks[i] & 0xffff) << ((i & 1) << 4);
+        }
+        this.blocks = new AtomicIntegerArray(packed);
+    }
+
+    short get(int index) {
+        return (short) (this.blocks.get(index >> 1) >>> ((index & 1) << 4));
+    }
+
+    void set(int index, short value) {
+        final int slot = index >> 1;
+        final int shift = (index & 1) << 4;
+        final int mask = 0xffff << shift;
+        int current;
+        do {
+            current = this.blocks.get(slot);
+        } while (!this.blocks.compareAndSet(slot, current, (current & ~mask) | ((value & 0xffff) << shift)));
+    }
+
+    /**
+     * Copies the current block state ids into a new array.
+     *
+     * @return The copied block state ids
+     */
+    public short[] toArray() {
+        final short[] copy = new short[this.length];
+        for (int i = 0; i < this.length; i++) {
+            copy[i] = get(i);
+        }
+        return copy;
+    }
+
+    @Override
+    public void setBlock(int x, int y, int z, BlockState block) {
+        checkRange(x, y, z);
+        set(getIndex(x, y, z), (short) Block.BLOCK_STATE_IDS.get((IBlockState) block));
+    }
+
+    @Override
+    public BlockState getBlock(int x, int y, int z) {
+        checkRange(x, y, z);
+        BlockState block = (BlockState) Block.BLOCK_STATE_IDS.getByValue(get(getIndex(x, y, z)) & 0xffff);
+        return block == null ? BlockTypes.AIR.getDefaultState() : block;
+    }
+
+    @Override
+    public MutableBlockVolume getBlockView(Vector3i newMin, Vector3i newMax) {
+        checkRange(newMin.getX(), newMin.getY(), newMin.getZ());
+        checkRange(newMax.getX(), newMax.getY(), newMax.getZ());
+        return new MutableBlockViewDownsize(this, newMin, newMax);
+    }
+
+    @Override
+    public MutableBlockVolume getBlockView(DiscreteTransform3 transform) {
+        return new MutableBlockViewTransform(this, transform);
+    }
+
+    @Override
+    public MutableBlockVolumeWorker<? extends MutableBlockVolume> getBlockWorker() {
+        return new SpongeMutableBlockVolumeWorker<>(this);
+    }
+
+    @Override
+    public UnmodifiableBlockVolume getUnmodifiableBlockView() {
+        return new UnmodifiableBlockVolumeWrapper(this);
+    }
+
+    @Override
+    public MutableBlockVolume getBlockCopy(StorageType type) {
+        switch (type) {
+            case STANDARD:
+                return new ShortArrayMutableBlockBuffer(toArray(), this.start, this.size);
+            case THREAD_SAFE:
+                return new AtomicShortArrayMutableBlockBuffer(toArray(), this.start, this.size);
+            default:
+                throw new UnsupportedOperationException(type.name());
+        }
+    }
+
+    @Override
+    public ImmutableBlockVolume getImmutableBlockCopy() {
+        return ShortArrayImmutableBlockBuffer.newWithoutArrayClone(toArray(), this.start, this.size);
+    }
+}
@@ -158,6 +158,7 @@ public MutableBiomeArea getBiomeCopy(StorageType type) {
             case STANDARD:
                 return new ByteArrayMutableBiomeBuffer(this.biomes.clone(), this.start, this.size);
             case THREAD_SAFE:
+                return new AtomicByteArrayMutableBiomeBuffer(this.biomes, this.start, this.size);
             default:
                 throw new UnsupportedOperationException(type.name());
         }
@@ -0,0 +1,200 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.gen;
+
+import com.flowpowered.math.vector.Vector3i;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.util.DiscreteTransform3;
+import org.spongepowered.api.util.annotation.NonnullByDefault;
+import org.spongepowered.api.world.extent.ImmutableBlockVolume;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.StorageType;
+import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
+import org.spongepowered.api.world.extent.worker.MutableBlockVolumeWorker;
+import org.spongepowered.common.world.extent.MutableBlockViewDownsize;
+import org.spongepowered.common.world.extent.MutableBlockViewTransform;
+import org.spongepowered.common.world.extent.UnmodifiableBlockVolumeWrapper;
+import org.spongepowered.common.world.extent.worker.SpongeMutableBlockVolumeWorker;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Mutable block volume stored in a memory mapped temporary file, so that very
+ * large volumes don't have to live on the Java heap.
+ *
+ * <p>The file is mapped in segments because a single mapping can't exceed
+ * 2GB. It is deleted as soon as it is mapped (or on exit, on platforms that
+ * don't allow deleting mapped files), and the memory is given back once the
+ * buffer is garbage collected.</p>
+ */
+@NonnullByDefault
+public final class MappedShortBufferMutableBlockBuffer extends AbstractBlockBuffer implements MutableBlockVolume {
+
+    private static final int SEGMENT_BITS = 29;
+    private final int segmentBits;
+    private final int segmentMask;
+    private final int length;
+    private final ShortBuffer[] segments;
+
+    public MappedShortBufferMutableBlockBuffer(Vector3i start, Vector3i size) {
+        this(start, size, SEGMENT_BITS);
+    }
+
+    /**
+     * Creates a new buffer mapped in segments of {@code 1 << segmentBits}
+     * blocks. Smaller segments are only useful for testing the boundaries.
+     *
+     * @param start The start of the volume
+     * @param size The size of the volume
+     * @param segmentBits The number of index bits addressed by one segment
+     */
+    MappedShortBufferMutableBlockBuffer(Vector3i start, Vector3i size, int segmentBits) {
+        super(start, size);
+        this.segmentBits = segmentBits;
+        this.segmentMask = (1 << segmentBits) - 1;
+        final long volume = (long) size.getX() * (long) size.getY() * (long) size.getZ();
+        if (volume > Integer.MAX_VALUE) {
+            throw new OutOfMemoryError("Cannot map the blocks because the size limit was reached");
+        }
+        this.length = (int) volume;
+        this.segments = map(this.length, this.segmentBits);
+    }
+
+    private MappedShortBufferMutableBlockBuffer(MappedShortBufferMutableBlockBuffer original) {
+        super(original.start, original.size);
+        this.segmentBits = original.segmentBits;
+        this.segmentMask = original.segmentMask;
+        this.length = original.length;
+        this.segments = map(this.length, this.segmentBits);
+        for (int i = 0; i < this.segments.length; i++) {
+            this.segments[i].duplicate().put(original.segments[i].duplicate());
+        }
+    }
+
+    private static ShortBuffer[] map(int length, int segmentBits) {
+        final ShortBuffer[] segments = new ShortBuffer[((length - 1) >> segmentBits) + 1];
+        try {
+            final File file = File.createTempFile("sponge-blocks", ".tmp");
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw"); FileChannel channel = raf.getChannel()) {
+                for (int i = 0; i < segments.length; i++) {
+                    final long offset = (long) i << segmentBits;
+                    final long blocks = Math.min(1 << segmentBits, length - offset);
+                    segments[i] = channel.map(FileChannel.MapMode.READ_WRITE, offset << 1, blocks << 1)
+                            .order(ByteOrder.nativeOrder())
+                            .asShortBuffer();
+                }
+            }
+            if (!file.delete()) {
+                file.deleteOnExit();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not map a block buffer file", e);
+        }
+        return segments;
+    }
+
+    /**
+     * Copies the block state ids into a new array. Only use this when the
+     * volume is known to fit on the heap.
+     *
+     * @return The copied block state ids
+     */
+    public short[] toArray() {
+        final short[] copy = new short[this.length];
+        for (int i = 0; i < this.segments.length; i++) {
+            final ShortBuffer segment = this.segments[i].duplicate();
+            segment.get(copy, i << this.segmentBits, segment.remaining());
+        }
+        return copy;
+    }
+
+    short get(int index) {
+        return this.segments[index >>> this.segmentBits].get(index & this.segmentMask);
+    }
+
+    void set(int index, short value) {
+        this.segments[index >>> this.segmentBits].put(index & this.segmentMask, value);
+    }
+
+    @Override
+    public void setBlock(int x, int y, int z, BlockState block) {
+        checkRange(x, y, z);
+        set(getIndex(x, y, z), (short) Block.BLOCK_STATE_IDS.get((IBlockState) block));
+    }
+
+    @Override
+    public BlockState getBlock(int x, int y, int z) {
+        checkRange(x, y, z);
+        BlockState block = (BlockState) Block.BLOCK_STATE_IDS.getByValue(get(getIndex(x, y, z)) & 0xffff);
+        return block == null ? BlockTypes.AIR.getDefaultState() : block;
+    }
+
+    @Override
+    public MutableBlockVolume getBlockView(Vector3i newMin, Vector3i newMax) {
+        checkRange(newMin.getX(), newMin.getY(), newMin.getZ());
+        checkRange(newMax.getX(), newMax.getY(), newMax.getZ());
+        return new MutableBlockViewDownsize(this, newMin, newMax);
+    }
+
+    @Override
+    public MutableBlockVolume getBlockView(DiscreteTransform3 transform) {
+        return new MutableBlockViewTransform(this, transform);
+    }
+
+    @Override
+    public MutableBlockVolumeWorker<? extends MutableBlockVolume> getBlockWorker() {
+        return new SpongeMutableBlockVolumeWorker<>(this);
+    }
+
+    @Override
+    public UnmodifiableBlockVolume getUnmodifiableBlockView() {
+        return new UnmodifiableBlockVolumeWrapper(this);
+    }
+
+    @Override
+    public MutableBlockVolume getBlockCopy(StorageType type) {
+        switch (type) {
+            case STANDARD:
+                return new MappedShortBufferMutableBlockBuffer(this);
+            case THREAD_SAFE:
+                return new AtomicShortArrayMutableBlockBuffer(toArray(), this.start, this.size);
+            default:
+                throw new UnsupportedOperationException(type.name());
+        }
+    }
+
+    @Override
+    public ImmutableBlockVolume getImmutableBlockCopy() {
+        return ShortArrayImmutableBlockBuffer.newWithoutArrayClone(toArray(), this.start, this.size);
+    }
+}
@@ -36,6 +36,7 @@
 import org.spongepowered.api.world.extent.StorageType;
 import org.spongepowered.api.world.extent.UnmodifiableBiomeArea;
 import org.spongepowered.api.world.extent.worker.MutableBiomeAreaWorker;
+import org.spongepowered.common.world.extent.ExtentBufferUtil;
 import org.spongepowered.common.world.extent.MutableBiomeViewDownsize;
 import org.spongepowered.common.world.extent.MutableBiomeViewTransform;
 import org.spongepowered.common.world.extent.UnmodifiableBiomeAreaWrapper;
@@ -108,6 +109,8 @@ public MutableBiomeArea getBiomeCopy(StorageType type) {
             case STANDARD:
                 return new ObjectArrayMutableBiomeBuffer(this.biomes.clone(), this.start, this.size);
             case THREAD_SAFE:
+                return new AtomicByteArrayMutableBiomeBuffer(ExtentBufferUtil.copyToArray(this, this.start, this.end, this.size), this.start,
+                    this.size);
             default:
                 throw new UnsupportedOperationException(type.name());
         }
@@ -0,0 +1,146 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import net.minecraft.util.BlockPos;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.NextTickListEntry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Replaces the pending tick hash set of a {@link net.minecraft.world.WorldServer},
+ * additionally indexing its entries by position and chunk so lookups don't
+ * have to walk every pending tick of the world.
+ *
+ * <p>Vanilla keeps this set in sync with the pending tick tree set, removing
+ * entries from both whenever they are ticked or taken by chunk saves.</p>
+ */
+public class PendingTickSet extends HashSet<NextTickListEntry> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Map<BlockPos, List<NextTickListEntry>> byPosition = new HashMap<>();
+    private final Map<Long, Set<NextTickListEntry>> byChunk = new HashMap<>();
+
+    @Override
+    public boolean add(NextTickListEntry entry) {
+        if (!super.add(entry)) {
+            return false;
+        }
+        this.byPosition.computeIfAbsent(entry.position, pos -> new ArrayList<>(1)).add(entry);
+        this.byChunk.computeIfAbsent(chunkKey(entry.position), key -> new HashSet<>()).add(entry);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof NextTickListEntry) || !super.remove(o)) {
+            return false;
+        }
+        unindex((NextTickListEntry) o);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        this.byPosition.clear();
+        this.byChunk.clear();
+    }
+
+    @Override
+    public Iterator<NextTickListEntry> iterator() {
+        final Iterator<NextTickListEntry> iterator = super.iterator();
+        return new Iterator<NextTickListEntry>() {
+
+            private NextTickListEntry last;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public NextTickListEntry next() {
+                return this.last = iterator.next();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                unindex(this.last);
+            }
+        };
+    }
+
+    /**
+     * Gets the pending ticks at the given position.
+     *
+     * @param pos The position
+     * @return The pending ticks
+     */
+    public List<NextTickListEntry> getEntries(BlockPos pos) {
+        List<NextTickListEntry> entries = this.byPosition.get(pos);
+        return entries == null ? Collections.emptyList() : Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Gets the pending ticks within the given chunk.
+     *
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return The pending ticks
+     */
+    public Collection<NextTickListEntry> getEntriesInChunk(int chunkX, int chunkZ) {
+        Set<NextTickListEntry> entries = this.byChunk.get(ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ));
+        return entries == null ? Collections.emptySet() : Collections.unmodifiableSet(entries);
+    }
+
+    private void unindex(NextTickListEntry entry) {
+        List<NextTickListEntry> atPosition = this.byPosition.get(entry.position);
+        if (atPosition != null && atPosition.remove(entry) && atPosition.isEmpty()) {
+            this.byPosition.remove(entry.position);
+        }
+        long key = chunkKey(entry.position);
+        Set<NextTickListEntry> inChunk = this.byChunk.get(key);
+        if (inChunk != null && inChunk.remove(entry) && inChunk.isEmpty()) {
+            this.byChunk.remove(key);
+        }
+    }
+
+    private static long chunkKey(BlockPos pos) {
+        return ChunkCoordIntPair.chunkXZ2Int(pos.getX() >> 4, pos.getZ() >> 4);
+    }
+
+}
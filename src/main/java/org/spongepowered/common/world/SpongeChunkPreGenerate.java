@@ -30,18 +30,43 @@
 import com.flowpowered.math.GenericMath;
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.storage.RegionFileCache;
 import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.slf4j.Logger;
+import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.api.world.Chunk;
 import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.WorldBorder;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.world.IMixinWorld;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.scheduler.SpongeScheduler;
+import org.spongepowered.common.world.gen.SpongeChunkProvider;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
@@ -143,14 +168,19 @@ public String toString() {
 
     private static class ChunkPreGenerator implements Consumer<Task> {
 
-        private static final Vector3i[] OFFSETS = {
-            Vector3i.UNIT_X,
-            Vector3i.UNIT_Z,
-            Vector3i.UNIT_X.negate(),
-            Vector3i.UNIT_Z.negate()
-        };
         private static final String TIME_FORMAT = "s's 'S'ms'";
+        private static final String PROGRESS_FILE = "sponge_chunk_pregen.dat";
+        private static final String PROGRESS_CENTER_X = "CenterX";
+        private static final String PROGRESS_CENTER_Z = "CenterZ";
+        private static final String PROGRESS_RADIUS = "Radius";
+        private static final String PROGRESS_LAYER = "Layer";
+        // Chunks per side of a region file
+        private static final int REGION_SHIFT = 5;
+        private static final int MAX_BATCH_SIZE = 64;
+        // Chunks which are generated ahead of loading, limits the memory used by chunks waiting to be loaded
+        private static final int MAX_GENERATED_CHUNKS = 1024;
         private final World world;
+        private final Vector3i center;
         private final int chunkRadius;
         private final int chunkCount;
         private final float tickPercent;
@@ -158,11 +188,22 @@ private static class ChunkPreGenerator implements Consumer<Task> {
         @Nullable private final Logger logger;
         private final Queue<Chunk> unloadQueue = new ArrayDeque<>();
         private final int unloadQueueThreshold;
-        private Vector3i currentPosition;
-        private int currentLayerIndex;
-        private int currentLayerSize;
-        private int currentIndexInLayer;
+        private final File worldDirectory;
+        private final File progressFile;
+        // The chunks to load on the main thread, in order
+        private final Spiral loadSpiral;
+        // The chunks to generate off the main thread, stays ahead of the load spiral
+        private final Spiral generationSpiral;
+        // One generator per batch that may run at once, the generators aren't thread safe
+        private final Queue<SpongeChunkProvider> generators = new ConcurrentLinkedQueue<>();
+        private final Set<Long> pendingChunks = Sets.newConcurrentHashSet();
+        private final Map<Long, net.minecraft.world.chunk.Chunk> generatedChunks = Maps.newConcurrentMap();
+        private boolean generatorsCreated;
+        private boolean offThreadGeneration;
+        // Includes the chunks generated before a restart, used for the progress
         private int totalCount;
+        // Only the chunks generated since the last (re)start, used for the throughput
+        private int generatedCount;
         private long totalTime;
 
         private ChunkPreGenerator(World world, Vector3d center, double diameter, int chunkCount, float tickPercent, @Nullable Logger logger) {
@@ -176,61 +217,199 @@ private ChunkPreGenerator(World world, Vector3d center, double diameter, int chu
             this.unloadQueueThreshold = 4 * this.chunkRadius - 2;
             final Optional<Vector3i> currentPosition = SpongeChunkLayout.instance.toChunk(center.toInt());
             if (currentPosition.isPresent()) {
-                this.currentPosition = currentPosition.get();
+                this.center = currentPosition.get();
             } else {
                 throw new IllegalArgumentException("Center is not a valid chunk coordinate");
             }
-            this.currentLayerIndex = 0;
-            this.currentLayerSize = 0;
-            this.currentIndexInLayer = 0;
-            this.totalCount = 0;
+            this.worldDirectory = ((net.minecraft.world.World) world).getSaveHandler().getWorldDirectory();
+            this.progressFile = new File(this.worldDirectory, PROGRESS_FILE);
+            // Restart from the layer before the last completed one, so the chunks adjacent to the
+            // next layer are loaded again and population can complete
+            final int layer = Math.max(readCompletedLayers() - 1, 0);
+            this.loadSpiral = new Spiral(this.center, this.chunkRadius, layer);
+            this.generationSpiral = new Spiral(this.center, this.chunkRadius, layer);
+            this.totalCount = layer == 0 ? 0 : (layer * 2 - 1) * (layer * 2 - 1);
             this.totalTime = 0;
         }
 
         @Override
         public void accept(Task task) {
+            if (!this.generatorsCreated) {
+                this.generatorsCreated = true;
+                createGenerators();
+            }
             final long startTime = System.currentTimeMillis();
+            final int startLayer = this.loadSpiral.getLayer();
+            scheduleGeneration(task.getOwner());
+            final IMixinChunkProviderServer chunkProvider = (IMixinChunkProviderServer) ((WorldServer) this.world).theChunkProviderServer;
             int count = 0;
-            do {
-                this.world.loadChunk(nextChunkPosition(), true).ifPresent(this.unloadQueue::add);
+            while (this.loadSpiral.hasNext() && (count == 0 || checkChunkCount(count) && checkTickTime(System.currentTimeMillis() - startTime))) {
+                final Vector3i position = this.loadSpiral.peek();
+                final long key = ChunkCoordIntPair.chunkXZ2Int(position.getX(), position.getZ());
+                if (this.offThreadGeneration && (this.loadSpiral.getIndex() >= this.generationSpiral.getIndex()
+                        || this.pendingChunks.contains(key))) {
+                    // The chunk is still being generated, it will be loaded during the next run
+                    break;
+                }
+                this.loadSpiral.next();
+                final net.minecraft.world.chunk.Chunk generated = this.generatedChunks.remove(key);
+                // Something else may have generated and saved the chunk in the meantime
+                if (generated != null && !isChunkSaved(position)) {
+                    this.unloadQueue.add((Chunk) chunkProvider.loadGeneratedChunk(generated));
+                } else {
+                    // Chunks which are already saved are loaded from disk, chunks which failed to generate are generated now
+                    this.world.loadChunk(position, true).ifPresent(this.unloadQueue::add);
+                }
                 if (this.unloadQueue.size() > this.unloadQueueThreshold) {
                     this.unloadQueue.remove();
                 }
-            } while (hasNextChunkPosition() && checkChunkCount(++count) && checkTickTime(System.currentTimeMillis() - startTime));
+                count++;
+            }
+            this.totalCount += count;
+            this.generatedCount += count;
+            final long deltaTime = System.currentTimeMillis() - startTime;
+            this.totalTime += deltaTime;
             if (this.logger != null) {
-                this.totalCount += count;
-                final long deltaTime = System.currentTimeMillis() - startTime;
-                this.totalTime += deltaTime;
-                this.logger.info("Generated {} chunks in {}, {}% complete. Currently {} chunks are kept loaded", count,
+                this.logger.info("Generated {} chunks in {}, {}% complete, {} chunks/s. Currently {} chunks are kept loaded, {} are generated ahead",
+                    count,
                     DurationFormatUtils.formatDuration(deltaTime, TIME_FORMAT, false),
                     GenericMath.floor(this.totalCount / Math.pow(this.chunkRadius * 2 + 1, 2) * 100),
-                    this.unloadQueue.size()
+                    getChunksPerSecond(),
+                    this.unloadQueue.size(),
+                    this.generatedChunks.size()
                 );
             }
-            if (!hasNextChunkPosition()) {
+            if (!this.loadSpiral.hasNext()) {
                 if (this.logger != null) {
-                    this.logger.info("Done! Generated a total of {} chunks in {}", this.totalCount,
-                        DurationFormatUtils.formatDuration(this.totalTime, TIME_FORMAT, false));
+                    this.logger.info("Done! Generated a total of {} chunks in {}, {} chunks/s", this.generatedCount,
+                        DurationFormatUtils.formatDuration(this.totalTime, TIME_FORMAT, false), getChunksPerSecond());
                 }
                 this.unloadQueue.clear();
+                this.generators.clear();
+                this.progressFile.delete();
                 task.cancel();
+            } else if (this.loadSpiral.getLayer() != startLayer) {
+                writeCompletedLayers(this.loadSpiral.getLayer());
             }
         }
 
-        private boolean hasNextChunkPosition() {
-            return this.currentLayerIndex <= this.chunkRadius;
+        private void createGenerators() {
+            final int count = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+            for (int i = 0; i < count; i++) {
+                final Optional<SpongeChunkProvider> generator = ((IMixinWorld) this.world).createBaseChunkGenerator();
+                if (!generator.isPresent()) {
+                    if (this.logger != null) {
+                        this.logger.info("The world generator of {} can't be used off the main thread, all chunks are generated on the main thread",
+                            this.world.getName());
+                    }
+                    this.generators.clear();
+                    return;
+                }
+                this.generators.add(generator.get());
+            }
+            this.offThreadGeneration = true;
         }
 
-        private Vector3i nextChunkPosition() {
-            final Vector3i nextPosition = this.currentPosition;
-            if (++this.currentIndexInLayer >= this.currentLayerSize * 4) {
-                this.currentLayerIndex++;
-                this.currentLayerSize += 2;
-                this.currentIndexInLayer = 0;
-                this.currentPosition = this.currentPosition.sub(Vector3i.UNIT_Z).sub(Vector3i.UNIT_X);
+        /**
+         * Submits batches of chunks ahead of the load spiral to be generated
+         * off the main thread, each batch only contains chunks of the same
+         * region file.
+         *
+         * @param owner The plugin owning the pre-generation
+         */
+        private void scheduleGeneration(PluginContainer owner) {
+            // Each batch takes a generator while it runs, so no more batches are queued than there are generators
+            while (!this.generators.isEmpty() && this.generationSpiral.hasNext()
+                    && this.pendingChunks.size() + this.generatedChunks.size() < MAX_GENERATED_CHUNKS) {
+                final SpongeChunkProvider generator = this.generators.poll();
+                final List<Vector3i> batch = new ArrayList<>();
+                final Vector3i first = this.generationSpiral.peek();
+                do {
+                    final Vector3i position = this.generationSpiral.next();
+                    this.pendingChunks.add(ChunkCoordIntPair.chunkXZ2Int(position.getX(), position.getZ()));
+                    batch.add(position);
+                } while (batch.size() < MAX_BATCH_SIZE && this.generationSpiral.hasNext() && isSameRegion(first, this.generationSpiral.peek()));
+                try {
+                    SpongeScheduler.getInstance().getAsyncTaskExecutor().execute(owner, () -> generateBatch(generator, batch));
+                } catch (RejectedExecutionException e) {
+                    // The chunks will be generated on the main thread instead
+                    for (Vector3i position : batch) {
+                        this.pendingChunks.remove(ChunkCoordIntPair.chunkXZ2Int(position.getX(), position.getZ()));
+                    }
+                    this.generators.add(generator);
+                    return;
+                }
+            }
+        }
+
+        private void generateBatch(SpongeChunkProvider generator, List<Vector3i> batch) {
+            try {
+                for (Vector3i position : batch) {
+                    final long key = ChunkCoordIntPair.chunkXZ2Int(position.getX(), position.getZ());
+                    try {
+                        if (!isChunkSaved(position)) {
+                            this.generatedChunks.put(key, generator.provideChunk(position.getX(), position.getZ()));
+                        }
+                    } catch (RuntimeException e) {
+                        SpongeImpl.getLogger().warn("Failed to generate chunk {} of {} off the main thread", position, this.world.getName(), e);
+                    } finally {
+                        this.pendingChunks.remove(key);
+                    }
+                }
+            } finally {
+                this.generators.add(generator);
+            }
+        }
+
+        private boolean isChunkSaved(Vector3i position) {
+            try (DataInputStream stream = RegionFileCache.getChunkInputStream(this.worldDirectory, position.getX(), position.getZ())) {
+                return stream != null;
+            } catch (IOException e) {
+                // Let the chunk provider deal with the broken chunk
+                return true;
+            }
+        }
+
+        private static boolean isSameRegion(Vector3i first, Vector3i second) {
+            return first.getX() >> REGION_SHIFT == second.getX() >> REGION_SHIFT && first.getZ() >> REGION_SHIFT == second.getZ() >> REGION_SHIFT;
+        }
+
+        private long getChunksPerSecond() {
+            return this.totalTime == 0 ? 0 : this.generatedCount * 1000L / this.totalTime;
+        }
+
+        private int readCompletedLayers() {
+            if (!this.progressFile.isFile()) {
+                return 0;
+            }
+            try (InputStream stream = new FileInputStream(this.progressFile)) {
+                final NBTTagCompound compound = CompressedStreamTools.readCompressed(stream);
+                if (compound.getInteger(PROGRESS_CENTER_X) != this.center.getX() || compound.getInteger(PROGRESS_CENTER_Z) != this.center.getZ()
+                    || compound.getInteger(PROGRESS_RADIUS) != this.chunkRadius) {
+                    return 0;
+                }
+                final int layer = Math.min(compound.getInteger(PROGRESS_LAYER), this.chunkRadius);
+                if (this.logger != null && layer > 0) {
+                    this.logger.info("Resuming chunk pre-generation of {} from layer {}", this.world.getName(), layer);
+                }
+                return layer;
+            } catch (IOException e) {
+                SpongeImpl.getLogger().warn("Failed to read chunk pre-generation progress of {}", this.world.getName(), e);
+                return 0;
+            }
+        }
+
+        private void writeCompletedLayers(int layer) {
+            final NBTTagCompound compound = new NBTTagCompound();
+            compound.setInteger(PROGRESS_CENTER_X, this.center.getX());
+            compound.setInteger(PROGRESS_CENTER_Z, this.center.getZ());
+            compound.setInteger(PROGRESS_RADIUS, this.chunkRadius);
+            compound.setInteger(PROGRESS_LAYER, layer);
+            try (OutputStream stream = new FileOutputStream(this.progressFile)) {
+                CompressedStreamTools.writeCompressed(compound, stream);
+            } catch (IOException e) {
+                SpongeImpl.getLogger().warn("Failed to save chunk pre-generation progress of {}", this.world.getName(), e);
             }
-            this.currentPosition = this.currentPosition.add(OFFSETS[this.currentIndexInLayer / this.currentLayerSize]);
-            return nextPosition;
         }
 
         private boolean checkChunkCount(int count) {
@@ -243,4 +422,69 @@ private boolean checkTickTime(long tickTime) {
 
     }
 
+    /**
+     * Walks the chunk positions around a center in square layers, so that
+     * the chunks of the previous layer are loaded when a layer is reached.
+     */
+    private static class Spiral {
+
+        private static final Vector3i[] OFFSETS = {
+            Vector3i.UNIT_X,
+            Vector3i.UNIT_Z,
+            Vector3i.UNIT_X.negate(),
+            Vector3i.UNIT_Z.negate()
+        };
+        private final int radius;
+        private Vector3i currentPosition;
+        private int currentLayerIndex;
+        private int currentLayerSize;
+        private int currentIndexInLayer;
+        // Positions taken since the start layer
+        private int index;
+
+        private Spiral(Vector3i center, int radius, int layer) {
+            this.radius = radius;
+            if (layer == 0) {
+                this.currentPosition = center;
+                this.currentLayerIndex = 0;
+                this.currentLayerSize = 0;
+            } else {
+                this.currentPosition = center.add(1 - layer, 0, -layer);
+                this.currentLayerIndex = layer;
+                this.currentLayerSize = layer * 2;
+            }
+            this.currentIndexInLayer = 0;
+        }
+
+        private int getLayer() {
+            return this.currentLayerIndex;
+        }
+
+        private int getIndex() {
+            return this.index;
+        }
+
+        private boolean hasNext() {
+            return this.currentLayerIndex <= this.radius;
+        }
+
+        private Vector3i peek() {
+            return this.currentPosition;
+        }
+
+        private Vector3i next() {
+            final Vector3i nextPosition = this.currentPosition;
+            this.index++;
+            if (++this.currentIndexInLayer >= this.currentLayerSize * 4) {
+                this.currentLayerIndex++;
+                this.currentLayerSize += 2;
+                this.currentIndexInLayer = 0;
+                this.currentPosition = this.currentPosition.sub(Vector3i.UNIT_Z).sub(Vector3i.UNIT_X);
+            }
+            this.currentPosition = this.currentPosition.add(OFFSETS[this.currentIndexInLayer / this.currentLayerSize]);
+            return nextPosition;
+        }
+
+    }
+
 }
@@ -32,6 +32,7 @@
 import org.spongepowered.api.world.extent.MutableBlockVolume;
 import org.spongepowered.api.world.extent.StorageType;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.util.gen.AtomicShortArrayMutableBlockBuffer;
 import org.spongepowered.common.util.gen.ShortArrayMutableBlockBuffer;
 
 public abstract class AbstractBlockViewDownsize<V extends BlockVolume> implements BlockVolume {
@@ -91,6 +92,7 @@ public MutableBlockVolume getBlockCopy(StorageType type) {
             case STANDARD:
                 return new ShortArrayMutableBlockBuffer(ExtentBufferUtil.copyToArray(this, this.min, this.max, this.size), this.min, this.size);
             case THREAD_SAFE:
+                return new AtomicShortArrayMutableBlockBuffer(ExtentBufferUtil.copyToArray(this, this.min, this.max, this.size), this.min, this.size);
             default:
                 throw new UnsupportedOperationException(type.name());
         }
@@ -39,6 +39,8 @@
 import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
 import org.spongepowered.api.world.extent.worker.MutableBiomeAreaWorker;
 import org.spongepowered.api.world.extent.worker.MutableBlockVolumeWorker;
+import org.spongepowered.common.util.gen.AtomicByteArrayMutableBiomeBuffer;
+import org.spongepowered.common.util.gen.AtomicShortArrayMutableBlockBuffer;
 import org.spongepowered.common.util.gen.ByteArrayImmutableBiomeBuffer;
 import org.spongepowered.common.util.gen.ByteArrayMutableBiomeBuffer;
 import org.spongepowered.common.util.gen.ShortArrayImmutableBlockBuffer;
@@ -79,6 +81,8 @@ default MutableBiomeArea getBiomeCopy(StorageType type) {
                 return new ByteArrayMutableBiomeBuffer(ExtentBufferUtil.copyToArray(this, getBiomeMin(), getBiomeMax(), getBiomeSize()),
                     getBiomeMin(), getBiomeSize());
             case THREAD_SAFE:
+                return new AtomicByteArrayMutableBiomeBuffer(ExtentBufferUtil.copyToArray(this, getBiomeMin(), getBiomeMax(), getBiomeSize()),
+                    getBiomeMin(), getBiomeSize());
             default:
                 throw new UnsupportedOperationException(type.name());
         }
@@ -118,6 +122,8 @@ default MutableBlockVolume getBlockCopy(StorageType type) {
                 return new ShortArrayMutableBlockBuffer(ExtentBufferUtil.copyToArray(this, getBlockMin(), getBlockMax(), getBlockSize()),
                     getBlockMin(), getBlockSize());
             case THREAD_SAFE:
+                return new AtomicShortArrayMutableBlockBuffer(ExtentBufferUtil.copyToArray(this, getBlockMin(), getBlockMax(), getBlockSize()),
+                    getBlockMin(), getBlockSize());
             default:
                 throw new UnsupportedOperationException(type.name());
         }
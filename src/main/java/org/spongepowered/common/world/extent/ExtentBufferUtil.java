@@ -28,7 +28,12 @@
 import com.flowpowered.math.vector.Vector3i;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldType;
 import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 import org.spongepowered.api.world.extent.BiomeArea;
 import org.spongepowered.api.world.extent.BlockVolume;
 
@@ -59,6 +64,23 @@ public static short[] copyToArray(BlockVolume volume, Vector3i min, Vector3i max
             throw new OutOfMemoryError("Cannot copy the blocks to an array because the size limit was reached");
         }
         final short[] copy = new short[(int) memory];
+        // Downsized views share the coordinates of what they view
+        while (volume instanceof ExtentViewDownsize) {
+            volume = ((ExtentViewDownsize) volume).getExtent();
+        }
+        if (volume instanceof Chunk && ((Chunk) volume).getWorld().getWorldType() != WorldType.DEBUG_WORLD) {
+            copyFromChunk((Chunk) volume, min, max, size, copy);
+            return copy;
+        }
+        if (volume instanceof World && ((World) volume).getWorldType() != WorldType.DEBUG_WORLD) {
+            final World world = (World) volume;
+            for (int chunkX = min.getX() >> 4; chunkX <= max.getX() >> 4; chunkX++) {
+                for (int chunkZ = min.getZ() >> 4; chunkZ <= max.getZ() >> 4; chunkZ++) {
+                    copyFromChunk(world.getChunkFromChunkCoords(chunkX, chunkZ), min, max, size, copy);
+                }
+            }
+            return copy;
+        }
         int i = 0;
         for (int x = min.getX(); x <= max.getX(); x++) {
             for (int z = min.getZ(); z <= max.getZ(); z++) {
@@ -70,4 +92,37 @@ public static short[] copyToArray(BlockVolume volume, Vector3i min, Vector3i max
         return copy;
     }
 
+    /**
+     * Copies the part of the volume within the chunk straight from its
+     * storage sections, the ids stored there are the ones of
+     * {@link Block#BLOCK_STATE_IDS}. Unknown ids and missing sections read as
+     * air, like {@link Chunk#getBlockState}.
+     */
+    private static void copyFromChunk(Chunk chunk, Vector3i min, Vector3i max, Vector3i size, short[] copy) {
+        final ExtendedBlockStorage[] sections = chunk.getBlockStorageArray();
+        final int airId = Block.BLOCK_STATE_IDS.get(Blocks.air.getDefaultState());
+        final int yzSlice = size.getY() * size.getZ();
+        final int minX = Math.max(min.getX(), chunk.xPosition << 4);
+        final int maxX = Math.min(max.getX(), (chunk.xPosition << 4) + 15);
+        final int minZ = Math.max(min.getZ(), chunk.zPosition << 4);
+        final int maxZ = Math.min(max.getZ(), (chunk.zPosition << 4) + 15);
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                int i = (x - min.getX()) * yzSlice + (z - min.getZ()) * size.getY();
+                final int columnIndex = (z & 15) << 4 | (x & 15);
+                for (int y = min.getY(); y <= max.getY(); y++) {
+                    final ExtendedBlockStorage section = y >= 0 && y >> 4 < sections.length ? sections[y >> 4] : null;
+                    int id = airId;
+                    if (section != null) {
+                        id = section.getData()[(y & 15) << 8 | columnIndex];
+                        if (Block.BLOCK_STATE_IDS.getByValue(id) == null) {
+                            id = airId;
+                        }
+                    }
+                    copy[i++] = (short) id;
+                }
+            }
+        }
+    }
+
 }
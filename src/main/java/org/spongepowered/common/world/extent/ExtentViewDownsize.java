@@ -90,6 +90,10 @@ public ExtentViewDownsize(Extent extent, Vector3i blockMin, Vector3i blockMax) {
         this.biomeSize = this.biomeMax.sub(this.biomeMin).add(Vector2i.ONE);
     }
 
+    public Extent getExtent() {
+        return this.extent;
+    }
+
     @Override
     public UUID getUniqueId() {
         return this.extent.getUniqueId();
@@ -423,15 +427,11 @@ public boolean spawnEntity(Entity entity, Cause cause) {
 
     @Override
     public Collection<Entity> getEntities() {
-        final Collection<Entity> entities = this.extent.getEntities();
-        for (Iterator<Entity> iterator = entities.iterator(); iterator.hasNext(); ) {
-            final Entity tileEntity = iterator.next();
-            final Location<World> block = tileEntity.getLocation();
-            if (!VecHelper.inBounds(block.getX(), block.getY(), block.getZ(), this.blockMin, this.blockMax)) {
-                iterator.remove();
-            }
-        }
-        return entities;
+        // Filter while collecting rather than copying every entity and removing most of them again
+        return this.extent.getEntities(input -> {
+            final Location<World> block = input.getLocation();
+            return VecHelper.inBounds(block.getX(), block.getY(), block.getZ(), this.blockMin, this.blockMax);
+        });
     }
 
     @Override
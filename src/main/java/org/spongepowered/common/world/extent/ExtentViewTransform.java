@@ -438,15 +438,11 @@ private Vector3d inverseTransform(Vector3d vector) {
 
     @Override
     public Collection<Entity> getEntities() {
-        final Collection<Entity> entities = this.extent.getEntities();
-        for (Iterator<Entity> iterator = entities.iterator(); iterator.hasNext(); ) {
-            final Entity tileEntity = iterator.next();
-            final Location<World> block = tileEntity.getLocation();
-            if (!VecHelper.inBounds(block.getX(), block.getY(), block.getZ(), this.blockMin, this.blockMax)) {
-                iterator.remove();
-            }
-        }
-        return entities;
+        // Filter while collecting rather than copying every entity and removing most of them again
+        return this.extent.getEntities(input -> {
+            final Location<World> block = input.getLocation();
+            return VecHelper.inBounds(block.getX(), block.getY(), block.getZ(), this.blockMin, this.blockMax);
+        });
     }
 
     @Override
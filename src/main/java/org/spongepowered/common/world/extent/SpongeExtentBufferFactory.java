@@ -29,7 +29,11 @@
 import org.spongepowered.api.world.extent.ExtentBufferFactory;
 import org.spongepowered.api.world.extent.MutableBiomeArea;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.util.gen.AtomicByteArrayMutableBiomeBuffer;
+import org.spongepowered.common.util.gen.AtomicShortArrayMutableBlockBuffer;
 import org.spongepowered.common.util.gen.ByteArrayMutableBiomeBuffer;
+import org.spongepowered.common.util.gen.MappedShortBufferMutableBlockBuffer;
 import org.spongepowered.common.util.gen.ShortArrayMutableBlockBuffer;
 
 public final class SpongeExtentBufferFactory implements ExtentBufferFactory {
@@ -46,17 +50,21 @@ public MutableBiomeArea createBiomeBuffer(Vector2i size) {
 
     @Override
     public MutableBiomeArea createThreadSafeBiomeBuffer(Vector2i size) {
-        throw new UnsupportedOperationException();
+        return new AtomicByteArrayMutableBiomeBuffer(Vector2i.ZERO, size);
     }
 
     @Override
     public MutableBlockVolume createBlockBuffer(Vector3i size) {
+        final long threshold = SpongeImpl.getGlobalConfig().getConfig().getGeneral().getFileBackedBlockBufferThreshold();
+        if (threshold > 0 && (long) size.getX() * (long) size.getY() * (long) size.getZ() >= threshold) {
+            return new MappedShortBufferMutableBlockBuffer(Vector3i.ZERO, size);
+        }
         return new ShortArrayMutableBlockBuffer(Vector3i.ZERO, size);
     }
 
     @Override
     public MutableBlockVolume createThreadSafeBlockBuffer(Vector3i size) {
-        throw new UnsupportedOperationException();
+        return new AtomicShortArrayMutableBlockBuffer(Vector3i.ZERO, size);
     }
 
 }
@@ -47,6 +47,7 @@
 import net.minecraft.world.gen.ChunkProviderGenerate;
 import net.minecraft.world.gen.NoiseGeneratorPerlin;
 import net.minecraft.world.gen.structure.MapGenStronghold;
+import net.minecraft.world.gen.structure.MapGenStructure;
 import net.minecraft.world.gen.structure.StructureOceanMonument;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.event.SpongeEventFactory;
@@ -347,7 +348,13 @@ public BlockPos getStrongholdGen(World worldIn, String structureName, BlockPos p
 
     @Override
     public void recreateStructures(Chunk chunk, int chunkX, int chunkZ) {
-        // TODO No structure support
+        // Structure generation populators only record the structure starts,
+        // the structures are placed by their populators
+        for (GenerationPopulator populator : this.genpop) {
+            if (populator instanceof MapGenStructure) {
+                ((MapGenStructure) populator).generate(this, this.world, chunkX, chunkZ, null);
+            }
+        }
     }
 
     // Methods below are simply mirrors of the methods in ChunkProviderGenerate
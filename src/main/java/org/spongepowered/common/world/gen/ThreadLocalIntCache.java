@@ -0,0 +1,92 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.gen;
+
+import com.google.common.collect.Lists;
+import net.minecraft.world.gen.layer.IntCache;
+
+import java.util.List;
+
+/**
+ * A per thread replacement of the {@link IntCache} pools, the vanilla pools
+ * are shared between all threads which corrupts the biomes when they are
+ * generated on multiple threads at once.
+ */
+public final class ThreadLocalIntCache {
+
+    private static final int SMALL_ARRAY_SIZE = 256;
+    private static final ThreadLocal<ThreadLocalIntCache> CACHE = ThreadLocal.withInitial(ThreadLocalIntCache::new);
+
+    public static ThreadLocalIntCache get() {
+        return CACHE.get();
+    }
+
+    private final List<int[]> freeSmallArrays = Lists.newArrayList();
+    private final List<int[]> inUseSmallArrays = Lists.newArrayList();
+    private final List<int[]> freeLargeArrays = Lists.newArrayList();
+    private final List<int[]> inUseLargeArrays = Lists.newArrayList();
+    private int largeArraySize = SMALL_ARRAY_SIZE;
+
+    private ThreadLocalIntCache() {
+    }
+
+    public int[] getIntCache(int size) {
+        if (size <= SMALL_ARRAY_SIZE) {
+            final int[] array = this.freeSmallArrays.isEmpty() ? new int[SMALL_ARRAY_SIZE]
+                    : this.freeSmallArrays.remove(this.freeSmallArrays.size() - 1);
+            this.inUseSmallArrays.add(array);
+            return array;
+        }
+        if (size > this.largeArraySize) {
+            this.largeArraySize = size;
+            this.freeLargeArrays.clear();
+            this.inUseLargeArrays.clear();
+        }
+        final int[] array = this.freeLargeArrays.isEmpty() ? new int[this.largeArraySize]
+                : this.freeLargeArrays.remove(this.freeLargeArrays.size() - 1);
+        this.inUseLargeArrays.add(array);
+        return array;
+    }
+
+    public void resetIntCache() {
+        // Drop one array of each size every reset, the same as vanilla, so the pools shrink again
+        if (!this.freeLargeArrays.isEmpty()) {
+            this.freeLargeArrays.remove(this.freeLargeArrays.size() - 1);
+        }
+        if (!this.freeSmallArrays.isEmpty()) {
+            this.freeSmallArrays.remove(this.freeSmallArrays.size() - 1);
+        }
+        this.freeLargeArrays.addAll(this.inUseLargeArrays);
+        this.freeSmallArrays.addAll(this.inUseSmallArrays);
+        this.inUseLargeArrays.clear();
+        this.inUseSmallArrays.clear();
+    }
+
+    public String getCacheSizes() {
+        return "cache: " + this.freeLargeArrays.size() + ", tcache: " + this.freeSmallArrays.size() + ", allocated: "
+                + this.inUseLargeArrays.size() + ", tallocated: " + this.inUseSmallArrays.size();
+    }
+
+}
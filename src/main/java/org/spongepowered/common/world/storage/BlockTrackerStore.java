@@ -0,0 +1,226 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import gnu.trove.iterator.TIntLongIterator;
+import gnu.trove.iterator.TShortLongIterator;
+import gnu.trove.map.hash.TIntLongHashMap;
+import gnu.trove.map.hash.TShortLongHashMap;
+
+/**
+ * Stores the owner and notifier indices of tracked block positions within a
+ * single chunk.
+ *
+ * <p>Entries are kept in primitive maps per 16x16x16 section, keyed by the
+ * position local to that section, with the owner and notifier indices (as
+ * handed out by {@code IMixinWorldInfo#getIndexForUniqueId}) packed into a
+ * single {@code long}. Positions outside of the regular section range are kept
+ * in a separate overflow map. Neither lookups nor updates allocate.</p>
+ */
+public final class BlockTrackerStore {
+
+    public static final int NO_INDEX = -1;
+
+    private static final int SECTION_COUNT = 16;
+    private static final long NO_ENTRY = pack(NO_INDEX, NO_INDEX);
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private static final int XZ_MASK = 0xF;
+    private static final int Y_INT_MASK = 0xFFFFFF;
+    private static final int Y_SHIFT = 4;
+    private static final int Z_INT_SHIFT = 28;
+
+    private final TShortLongHashMap[] sections = new TShortLongHashMap[SECTION_COUNT];
+    private TIntLongHashMap overflow;
+    private int size;
+
+    private static long pack(int ownerIndex, int notifierIndex) {
+        return ((long) ownerIndex << 32) | (notifierIndex & 0xFFFFFFFFL);
+    }
+
+    private static int owner(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    private static int notifier(long packed) {
+        return (int) packed;
+    }
+
+    private static short sectionKey(int x, int y, int z) {
+        return (short) (((y & 0xF) << 8) | ((z & XZ_MASK) << 4) | (x & XZ_MASK));
+    }
+
+    /**
+     * Serializes a position local to the chunk into the integer form used for
+     * positions stored on disk. The chunk-local x and z coordinates occupy the
+     * lowest and highest nibble, y the 24 bits in between.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @param z The z coordinate
+     * @return The serialized position
+     */
+    public static int toIntPos(int x, int y, int z) {
+        return (x & XZ_MASK) | ((y & Y_INT_MASK) << Y_SHIFT) | ((z & XZ_MASK) << Z_INT_SHIFT);
+    }
+
+    private static boolean isInSections(int y) {
+        return y >= 0 && y < SECTION_COUNT << 4;
+    }
+
+    private long getPacked(int x, int y, int z) {
+        if (isInSections(y)) {
+            TShortLongHashMap section = this.sections[y >> 4];
+            return section == null ? NO_ENTRY : section.get(sectionKey(x, y, z));
+        }
+        return this.overflow == null ? NO_ENTRY : this.overflow.get(toIntPos(x, y, z));
+    }
+
+    private void setPacked(int x, int y, int z, long packed) {
+        if (isInSections(y)) {
+            final int sectionIndex = y >> 4;
+            TShortLongHashMap section = this.sections[sectionIndex];
+            if (packed == NO_ENTRY) {
+                if (section != null && section.remove(sectionKey(x, y, z)) != NO_ENTRY) {
+                    this.size--;
+                    if (section.isEmpty()) {
+                        this.sections[sectionIndex] = null;
+                    }
+                }
+                return;
+            }
+            if (section == null) {
+                section = new TShortLongHashMap(DEFAULT_CAPACITY, 0.5F, (short) -1, NO_ENTRY);
+                this.sections[sectionIndex] = section;
+            }
+            if (section.put(sectionKey(x, y, z), packed) == NO_ENTRY) {
+                this.size++;
+            }
+        } else {
+            final int key = toIntPos(x, y, z);
+            if (packed == NO_ENTRY) {
+                if (this.overflow != null && this.overflow.remove(key) != NO_ENTRY) {
+                    this.size--;
+                }
+                return;
+            }
+            if (this.overflow == null) {
+                this.overflow = new TIntLongHashMap(DEFAULT_CAPACITY, 0.5F, 0, NO_ENTRY);
+            }
+            if (this.overflow.put(key, packed) == NO_ENTRY) {
+                this.size++;
+            }
+        }
+    }
+
+    public boolean contains(int x, int y, int z) {
+        return getPacked(x, y, z) != NO_ENTRY;
+    }
+
+    public int getOwnerIndex(int x, int y, int z) {
+        return owner(getPacked(x, y, z));
+    }
+
+    public int getNotifierIndex(int x, int y, int z) {
+        return notifier(getPacked(x, y, z));
+    }
+
+    public void setOwnerIndex(int x, int y, int z, int ownerIndex) {
+        setPacked(x, y, z, pack(ownerIndex, notifier(getPacked(x, y, z))));
+    }
+
+    public void setNotifierIndex(int x, int y, int z, int notifierIndex) {
+        setPacked(x, y, z, pack(owner(getPacked(x, y, z)), notifierIndex));
+    }
+
+    public void set(int x, int y, int z, int ownerIndex, int notifierIndex) {
+        setPacked(x, y, z, pack(ownerIndex, notifierIndex));
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public void clear() {
+        for (int i = 0; i < SECTION_COUNT; i++) {
+            this.sections[i] = null;
+        }
+        this.overflow = null;
+        this.size = 0;
+    }
+
+    /**
+     * Writes all entries into a flat array of {@code (position, owner,
+     * notifier)} triples, where the position is serialized with
+     * {@link #toIntPos(int, int, int)}.
+     *
+     * @return The serialized entries
+     */
+    public int[] toIntArray() {
+        final int[] data = new int[this.size * 3];
+        int i = 0;
+        for (int sectionIndex = 0; sectionIndex < SECTION_COUNT; sectionIndex++) {
+            final TShortLongHashMap section = this.sections[sectionIndex];
+            if (section == null) {
+                continue;
+            }
+            for (TShortLongIterator it = section.iterator(); it.hasNext();) {
+                it.advance();
+                final int key = it.key();
+                data[i++] = toIntPos(key & XZ_MASK, (sectionIndex << 4) | ((key >> 8) & 0xF), (key >> 4) & XZ_MASK);
+                data[i++] = owner(it.value());
+                data[i++] = notifier(it.value());
+            }
+        }
+        if (this.overflow != null) {
+            for (TIntLongIterator it = this.overflow.iterator(); it.hasNext();) {
+                it.advance();
+                data[i++] = it.key();
+                data[i++] = owner(it.value());
+                data[i++] = notifier(it.value());
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Replaces the contents of this store with the entries of an array
+     * previously created by {@link #toIntArray()}.
+     *
+     * @param data The serialized entries
+     */
+    public void readIntArray(int[] data) {
+        clear();
+        for (int i = 0; i + 2 < data.length; i += 3) {
+            final int pos = data[i];
+            set(pos & XZ_MASK, (pos >> Y_SHIFT) & Y_INT_MASK, (pos >>> Z_INT_SHIFT) & XZ_MASK, data[i + 1], data[i + 2]);
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.gen;
+
+import com.flowpowered.math.vector.Vector2i;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class AtomicByteArrayMutableBiomeBufferTest {
+
+    private static final Vector2i START = Vector2i.ZERO;
+    // Not a multiple of four, so the last int is only partly used
+    private static final Vector2i SIZE = new Vector2i(3, 3);
+
+    @Test
+    public void testRoundTripInEveryLane() {
+        AtomicByteArrayMutableBiomeBuffer buffer = new AtomicByteArrayMutableBiomeBuffer(START, SIZE);
+        for (int i = 0; i < 9; i++) {
+            buffer.set(i, (byte) (i * 29 + 3));
+        }
+        for (int i = 0; i < 9; i++) {
+            Assert.assertEquals((byte) (i * 29 + 3), buffer.get(i));
+        }
+    }
+
+    @Test
+    public void testIdsAboveByteMaxKeepTheirBits() {
+        AtomicByteArrayMutableBiomeBuffer buffer = new AtomicByteArrayMutableBiomeBuffer(START, SIZE);
+        buffer.set(0, (byte) 0x12);
+        buffer.set(1, (byte) 0xff);
+        buffer.set(2, (byte) 0x80);
+        buffer.set(3, (byte) 0xff);
+        Assert.assertEquals(0x12, buffer.get(0));
+        Assert.assertEquals(0xff, buffer.get(1) & 0xff);
+        Assert.assertEquals(0x80, buffer.get(2) & 0xff);
+        Assert.assertEquals(0xff, buffer.get(3) & 0xff);
+
+        buffer.set(3, (byte) 0);
+        Assert.assertEquals(0x80, buffer.get(2) & 0xff);
+        Assert.assertEquals(0, buffer.get(3));
+    }
+
+    @Test
+    public void testArrayRoundTrip() {
+        byte[] biomes = new byte[9];
+        for (int i = 0; i < biomes.length; i++) {
+            biomes[i] = (byte) (0x80 | i * 13);
+        }
+        AtomicByteArrayMutableBiomeBuffer buffer = new AtomicByteArrayMutableBiomeBuffer(biomes, START, SIZE);
+        Assert.assertArrayEquals(biomes, buffer.toArray());
+    }
+
+    @Test
+    public void testConcurrentWritesToNeighbouringIndices() throws InterruptedException {
+        final AtomicByteArrayMutableBiomeBuffer buffer = new AtomicByteArrayMutableBiomeBuffer(START, new Vector2i(4, 1));
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            final int index = t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 100000; i++) {
+                    buffer.set(index, (byte) (i + index));
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (int index = 0; index < 4; index++) {
+            Assert.assertEquals((byte) (99999 + index), buffer.get(index));
+        }
+    }
+
+}
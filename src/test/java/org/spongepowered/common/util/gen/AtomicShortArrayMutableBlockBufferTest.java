@@ -0,0 +1,107 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.gen;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class AtomicShortArrayMutableBlockBufferTest {
+
+    private static final Vector3i START = Vector3i.ZERO;
+    // An odd volume, so the last int only holds one id
+    private static final Vector3i SIZE = new Vector3i(3, 1, 5);
+
+    @Test
+    public void testRoundTripAtOddAndEvenIndices() {
+        AtomicShortArrayMutableBlockBuffer buffer = new AtomicShortArrayMutableBlockBuffer(START, SIZE);
+        for (int i = 0; i < 15; i++) {
+            buffer.set(i, (short) (i * 31 + 1));
+        }
+        for (int i = 0; i < 15; i++) {
+            Assert.assertEquals((short) (i * 31 + 1), buffer.get(i));
+        }
+
+        buffer.set(4, (short) 7);
+        Assert.assertEquals(7, buffer.get(4));
+        Assert.assertEquals(3 * 31 + 1, buffer.get(3));
+        Assert.assertEquals(5 * 31 + 1, buffer.get(5));
+    }
+
+    @Test
+    public void testIdsAboveShortMaxKeepTheirBits() {
+        AtomicShortArrayMutableBlockBuffer buffer = new AtomicShortArrayMutableBlockBuffer(START, SIZE);
+        buffer.set(0, (short) 0x1234);
+        buffer.set(1, (short) 0xffff);
+        buffer.set(2, (short) 0x8001);
+        buffer.set(3, (short) 0x5678);
+        Assert.assertEquals(0x1234, buffer.get(0));
+        Assert.assertEquals(0xffff, buffer.get(1) & 0xffff);
+        Assert.assertEquals(0x8001, buffer.get(2) & 0xffff);
+        Assert.assertEquals(0x5678, buffer.get(3));
+
+        // Clearing the high id must not leave sign bits in the neighbour
+        buffer.set(1, (short) 0);
+        Assert.assertEquals(0x1234, buffer.get(0));
+        Assert.assertEquals(0, buffer.get(1));
+    }
+
+    @Test
+    public void testArrayRoundTrip() {
+        short[] blocks = new short[15];
+        for (int i = 0; i < blocks.length; i++) {
+            blocks[i] = (short) (0x8000 | i * 4099);
+        }
+        AtomicShortArrayMutableBlockBuffer buffer = new AtomicShortArrayMutableBlockBuffer(blocks, START, SIZE);
+        Assert.assertArrayEquals(blocks, buffer.toArray());
+        Assert.assertArrayEquals(blocks, new AtomicShortArrayMutableBlockBuffer(buffer.toArray(), START, SIZE).toArray());
+    }
+
+    @Test
+    public void testConcurrentWritesToNeighbouringIndices() throws InterruptedException {
+        final AtomicShortArrayMutableBlockBuffer buffer = new AtomicShortArrayMutableBlockBuffer(START, new Vector3i(2, 1, 1));
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 2; t++) {
+            final int index = t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 100000; i++) {
+                    buffer.set(index, (short) (i + index));
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertEquals((short) 99999, buffer.get(0));
+        Assert.assertEquals((short) 100000, buffer.get(1));
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.gen;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MappedShortBufferMutableBlockBufferTest {
+
+    private static final Vector3i START = Vector3i.ZERO;
+    private static final Vector3i SIZE = new Vector3i(5, 2, 3);
+
+    @Test
+    public void testRoundTripAcrossSegments() {
+        // Segments of 4 blocks, so the 30 blocks span eight segments and the last one is partial
+        MappedShortBufferMutableBlockBuffer buffer = new MappedShortBufferMutableBlockBuffer(START, SIZE, 2);
+        for (int i = 0; i < 30; i++) {
+            buffer.set(i, (short) (i * 1021 + 1));
+        }
+        for (int i = 0; i < 30; i++) {
+            Assert.assertEquals((short) (i * 1021 + 1), buffer.get(i));
+        }
+
+        // Both sides of a segment boundary stay independent
+        buffer.set(3, (short) 0xffff);
+        buffer.set(4, (short) 0x8001);
+        Assert.assertEquals((short) (2 * 1021 + 1), buffer.get(2));
+        Assert.assertEquals(0xffff, buffer.get(3) & 0xffff);
+        Assert.assertEquals(0x8001, buffer.get(4) & 0xffff);
+        Assert.assertEquals((short) (5 * 1021 + 1), buffer.get(5));
+    }
+
+    @Test
+    public void testArrayMatchesSegments() {
+        MappedShortBufferMutableBlockBuffer buffer = new MappedShortBufferMutableBlockBuffer(START, SIZE, 3);
+        short[] expected = new short[30];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = (short) (0x8000 | i * 997);
+            buffer.set(i, expected[i]);
+        }
+        Assert.assertArrayEquals(expected, buffer.toArray());
+        Assert.assertArrayEquals(expected, new AtomicShortArrayMutableBlockBuffer(buffer.toArray(), START, SIZE).toArray());
+    }
+
+    @Test
+    public void testSingleSegment() {
+        MappedShortBufferMutableBlockBuffer buffer = new MappedShortBufferMutableBlockBuffer(START, SIZE);
+        buffer.set(0, (short) 0x7fff);
+        buffer.set(29, (short) 0x8000);
+        short[] blocks = buffer.toArray();
+        Assert.assertEquals(30, blocks.length);
+        Assert.assertEquals(0x7fff, blocks[0]);
+        Assert.assertEquals(0x8000, blocks[29] & 0xffff);
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BlockTrackerStoreTest {
+
+    @Test
+    public void testSetAndGet() {
+        BlockTrackerStore store = new BlockTrackerStore();
+        Assert.assertTrue(store.isEmpty());
+        Assert.assertEquals(BlockTrackerStore.NO_INDEX, store.getOwnerIndex(3, 64, 7));
+
+        store.setOwnerIndex(3, 64, 7, 5);
+        store.setNotifierIndex(3, 64, 7, 9);
+        store.setNotifierIndex(-13, 300, 23, 2);
+        Assert.assertEquals(2, store.size());
+        Assert.assertEquals(5, store.getOwnerIndex(3, 64, 7));
+        Assert.assertEquals(9, store.getNotifierIndex(3, 64, 7));
+        Assert.assertEquals(BlockTrackerStore.NO_INDEX, store.getOwnerIndex(3, 300, 7));
+        Assert.assertEquals(2, store.getNotifierIndex(3, 300, 7));
+
+        store.set(3, 64, 7, BlockTrackerStore.NO_INDEX, BlockTrackerStore.NO_INDEX);
+        Assert.assertFalse(store.contains(3, 64, 7));
+        Assert.assertEquals(1, store.size());
+    }
+
+    @Test
+    public void testIntArrayRoundTrip() {
+        BlockTrackerStore store = new BlockTrackerStore();
+        store.set(0, 0, 0, 1, BlockTrackerStore.NO_INDEX);
+        store.set(15, 255, 15, 2, 3);
+        store.set(8, 1000, 4, BlockTrackerStore.NO_INDEX, 4);
+
+        BlockTrackerStore copy = new BlockTrackerStore();
+        copy.readIntArray(store.toIntArray());
+        Assert.assertEquals(3, copy.size());
+        Assert.assertEquals(1, copy.getOwnerIndex(0, 0, 0));
+        Assert.assertEquals(BlockTrackerStore.NO_INDEX, copy.getNotifierIndex(0, 0, 0));
+        Assert.assertEquals(2, copy.getOwnerIndex(15, 255, 15));
+        Assert.assertEquals(3, copy.getNotifierIndex(15, 255, 15));
+        Assert.assertEquals(4, copy.getNotifierIndex(8, 1000, 4));
+    }
+
+}